@@ -0,0 +1,48 @@
+package com.mang.atdd.membership;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class MembershipBenchmarkApplication {
+
+    // application.properties 의 MariaDB 설정을 인메모리 H2 로 덮어쓰고, 기본값이 없는 노드 id 를 지정
+    private static final String[] H2_ARGS = {
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--membership.id.node-id=0",
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+    };
+
+    private MembershipBenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(final String... additionalArgs) {
+        // 같은 키를 두 번 넘기면 값이 쉼표로 합쳐지므로, 추가 인자로 지정한 키는 기본값에서 제외
+        final Set<String> overriddenKeys = Arrays.stream(additionalArgs)
+                .map(MembershipBenchmarkApplication::key)
+                .collect(Collectors.toSet());
+        final String[] args = Stream.concat(
+                        Arrays.stream(H2_ARGS).filter(arg -> !overriddenKeys.contains(key(arg))),
+                        Arrays.stream(additionalArgs))
+                .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(AtddMembershipApplication.class)
+                .run(args);
+    }
+
+    private static String key(final String arg) {
+        final int index = arg.indexOf('=');
+        return index < 0 ? arg : arg.substring(0, index);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.mang.atdd.membership.app.common;
+
+import com.mang.atdd.membership.MembershipBenchmarkApplication;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+
+/**
+ * 실행 모드별 HTTP 처리량과 p99 지연시간 비교.
+ * 동시 클라이언트 수는 JMH 스레드 수로 지정한다. (예: ./gradlew jmh -PjmhIncludes=WebExecutionLoadBenchmark -PjmhThreads=10000)
+ * virtual 모드는 JDK 21 이상에서 실행해야 의미가 있으며, 그보다 낮으면 platform 과 같은 스레드 풀로 동작한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WebExecutionLoadBenchmark {
+
+    // platform: Tomcat 기본 스레드 풀, virtual: Tomcat 가상 스레드, async: CompletableFuture 컨트롤러
+    @Param({"platform", "virtual", "async"})
+    public String executionMode;
+
+    private ConfigurableApplicationContext applicationContext;
+    private URL membershipUrl;
+    private final String userId = "loadBenchmarkUserId";
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        applicationContext = MembershipBenchmarkApplication.start(
+                "--membership.web.execution-mode=" + executionMode,
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000");
+
+        final Long membershipId = applicationContext.getBean(MembershipService.class)
+                .addMembership(userId, MembershipType.NAVER, 10000)
+                .getId();
+        final int port = ((ServletWebServerApplicationContext) applicationContext).getWebServer().getPort();
+        final String path = "async".equals(executionMode) ? "/api/v1/async/memberships/" : "/api/v1/memberships/";
+        membershipUrl = new URL("http://localhost:" + port + path + membershipId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int getMembership() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) membershipUrl.openConnection();
+        connection.setRequestProperty(USER_ID_HEADER, userId);
+
+        final int statusCode = connection.getResponseCode();
+        try (final InputStream inputStream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            final byte[] buffer = new byte[1024];
+            while (inputStream != null && inputStream.read(buffer) != -1) {
+                // keep-alive 연결 재사용을 위해 응답 본문을 끝까지 읽음
+            }
+        }
+        return statusCode;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.mang.atdd.membership.MembershipBenchmarkApplication;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터소스 튜닝 값별 MembershipService 처리량 비교.
+ * H2 에는 MariaDB prepared statement 캐시가 없으므로 H2 의 QUERY_CACHE_SIZE 로 대신 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class DataSourceTuningBenchmark {
+
+    @Param({"2", "16"})
+    public int maximumPoolSize;
+
+    @Param({"0", "64"})
+    public int statementCacheSize;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext applicationContext;
+    private MembershipService membershipService;
+    private Long membershipId;
+    private final String userId = "tuningBenchmarkUserId";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = MembershipBenchmarkApplication.start(
+                "--spring.cache.type=none",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=" + statementCacheSize,
+                "--membership.datasource.tuning.pool.maximum-pool-size=" + maximumPoolSize,
+                "--membership.datasource.tuning.pool.minimum-idle=" + maximumPoolSize,
+                "--membership.datasource.tuning.hibernate.jdbc-batch-size=" + jdbcBatchSize,
+                "--membership.datasource.tuning.hibernate.order-inserts=true",
+                "--membership.datasource.tuning.hibernate.order-updates=true");
+        membershipService = applicationContext.getBean(MembershipService.class);
+
+        membershipId = membershipService.addMembership(userId, MembershipType.NAVER, 10000).getId();
+        membershipService.addMembership(userId, MembershipType.KAKAO, 10000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public MembershipDetailResponse getMembership() {
+        return membershipService.getMembership(membershipId, userId);
+    }
+
+    @Benchmark
+    public List<MembershipDetailResponse> getMembershipList() {
+        return membershipService.getMembershipList(userId);
+    }
+
+    @Benchmark
+    public void accumulateMembershipPoint() {
+        membershipService.accumulateMembershipPoint(membershipId, userId, 100);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.mang.atdd.membership.app.common.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 수별 id 생성 처리량.
+ * 노드당 밀리초마다 4096개가 상한이므로, 상한에 도달한 뒤에는 스레드를 늘려도 처리량이 늘지 않고 대기 비용만 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0);
+
+    @Benchmark
+    @Threads(1)
+    public long nextIdSingleThread() {
+        return idGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextIdFourThreads() {
+        return idGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long nextIdMaxThreads() {
+        return idGenerator.nextId();
+    }
+
+}
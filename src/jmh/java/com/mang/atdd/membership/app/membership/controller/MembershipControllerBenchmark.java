@@ -0,0 +1,81 @@
+package com.mang.atdd.membership.app.membership.controller;
+
+import com.mang.atdd.membership.MembershipBenchmarkApplication;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipControllerBenchmark {
+
+    private static final String ACCUMULATE_BODY = "{\"point\":10000}";
+
+    private ConfigurableApplicationContext applicationContext;
+    private MockMvc mockMvc;
+    private String userId;
+    private Long membershipId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 필터, 인터셉터, 메시지 컨버터, AOP 를 모두 거치는 전체 요청 경로를 측정
+        // 단일 사용자로 반복 요청하므로 요청 수 제한은 끔
+        applicationContext = MembershipBenchmarkApplication.start("--spring.cache.type=none", "--membership.ratelimit.enabled=false");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) applicationContext).build();
+
+        userId = "benchmarkUserId";
+        final MembershipAddResponse membership = applicationContext.getBean(MembershipService.class)
+                .addMembership(userId, MembershipType.NAVER, 10000);
+        membershipId = membership.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public MvcResult getMembership() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/memberships/" + membershipId)
+                        .header(USER_ID_HEADER, userId))
+                .andReturn();
+    }
+
+    // 존재하지 않는 멤버십 조회, MembershipException 과 예외 처리기를 거치는 에러 경로
+    @Benchmark
+    public MvcResult getMembershipNotFound() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/memberships/-1")
+                        .header(USER_ID_HEADER, userId))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getMembershipList() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/memberships")
+                        .header(USER_ID_HEADER, userId))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult accumulateMembershipPoint() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/memberships/" + membershipId + "/accumulate")
+                        .header(USER_ID_HEADER, userId)
+                        .content(ACCUMULATE_BODY)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+    }
+
+}
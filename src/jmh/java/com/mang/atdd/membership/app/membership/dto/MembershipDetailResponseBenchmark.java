@@ -0,0 +1,134 @@
+package com.mang.atdd.membership.app.membership.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipDetailResponseBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborObjectMapper;
+    private ObjectMapper smileObjectMapper;
+    private List<Membership> memberships;
+    private List<MembershipDetailResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 동일한 설정(JavaTimeModule 등)의 ObjectMapper 사용
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // WebSerializationConfig 와 동일하게 날짜는 숫자 배열, Smile 은 문자열 역참조 사용
+        cborObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        final SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        smileObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(smileFactory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        memberships = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            memberships.add(Membership.builder()
+                    .id((long) i)
+                    .userId("userId")
+                    .membershipType(MembershipType.values()[i % MembershipType.values().length])
+                    .point(10000 + i)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        responses = toResponses();
+    }
+
+    @Benchmark
+    public List<MembershipDetailResponse> mapping() {
+        return toResponses();
+    }
+
+    @Benchmark
+    public byte[] serialization(final PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(objectMapper.writeValueAsBytes(responses));
+    }
+
+    @Benchmark
+    public byte[] cborSerialization(final PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(cborObjectMapper.writeValueAsBytes(responses));
+    }
+
+    @Benchmark
+    public byte[] smileSerialization(final PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(smileObjectMapper.writeValueAsBytes(responses));
+    }
+
+    // server.compression 을 적용했을 때의 JSON 직렬화 + gzip 비용
+    @Benchmark
+    public byte[] jsonGzip(final PayloadSize payloadSize) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            objectMapper.writeValue(gzipOutputStream, responses);
+        }
+        return payloadSize.record(outputStream.toByteArray());
+    }
+
+    @Benchmark
+    public byte[] mappingAndSerialization() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toResponses());
+    }
+
+    private List<MembershipDetailResponse> toResponses() {
+        return memberships.stream()
+                .map(v -> MembershipDetailResponse.builder()
+                        .id(v.getId())
+                        .membershipType(v.getMembershipType())
+                        .point(v.getPoint())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 처리 시간과 함께 비교할 수 있도록 형식별 응답 크기를 결과(·bytes, ·payloads)에 남김
+    // 반복마다 합계로 보고되므로 응답 하나의 크기는 bytes / payloads
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+        public long payloads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            payloads = 0;
+        }
+
+        byte[] record(final byte[] payload) {
+            bytes += payload.length;
+            payloads++;
+            return payload;
+        }
+
+    }
+
+}
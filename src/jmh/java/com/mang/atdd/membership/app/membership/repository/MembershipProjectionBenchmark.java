@@ -0,0 +1,91 @@
+package com.mang.atdd.membership.app.membership.repository;
+
+import com.mang.atdd.membership.MembershipBenchmarkApplication;
+import com.mang.atdd.membership.app.common.id.SnowflakeIdGenerator;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// (userId, membershipType) 유니크 제약으로 사용자당 최대 3건이므로 여러 사용자를 IN 조건으로 묶어 큰 목록을 만듦
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipProjectionBenchmark {
+
+    @Param({"100", "1000"})
+    public int userCount;
+
+    private ConfigurableApplicationContext applicationContext;
+    private EntityManagerFactory entityManagerFactory;
+    private List<String> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = MembershipBenchmarkApplication.start();
+        entityManagerFactory = applicationContext.getBean(EntityManagerFactory.class);
+
+        final SnowflakeIdGenerator idGenerator = applicationContext.getBean(SnowflakeIdGenerator.class);
+        final List<Membership> memberships = new ArrayList<>();
+        userIds = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            final String userId = "benchmarkUserId" + i;
+            userIds.add(userId);
+            for (final MembershipType membershipType : MembershipType.values()) {
+                memberships.add(Membership.builder()
+                        .id(idGenerator.nextId())
+                        .userId(userId)
+                        .membershipType(membershipType)
+                        .point(10000)
+                        .build());
+            }
+        }
+        applicationContext.getBean(MembershipRepository.class).insertAll(memberships);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<MembershipDetailResponse> entity() {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT m FROM Membership m WHERE m.userId IN :userIds", Membership.class)
+                    .setParameter("userIds", userIds)
+                    .getResultList()
+                    .stream()
+                    .map(membership -> MembershipDetailResponse.builder()
+                            .id(membership.getId())
+                            .membershipType(membership.getMembershipType())
+                            .point(membership.getPoint())
+                            .createdAt(membership.getCreatedAt())
+                            .build())
+                    .collect(Collectors.toList());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<MembershipDetailResponse> projection() {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(MembershipRepository.DETAIL_PROJECTION + "WHERE m.userId IN :userIds", MembershipDetailResponse.class)
+                    .setParameter("userIds", userIds)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.mang.atdd.membership.MembershipBenchmarkApplication;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MembershipServiceBenchmark {
+
+    // none: 매번 DB 조회, caffeine: 캐시 적중 경로
+    @Param({"none", "caffeine"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext applicationContext;
+    private MembershipService membershipService;
+    private String userId;
+    private Long membershipId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = MembershipBenchmarkApplication.start("--spring.cache.type=" + cacheType);
+        membershipService = applicationContext.getBean(MembershipService.class);
+
+        userId = "benchmarkUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        membershipService.addMembership(userId, MembershipType.KAKAO, 10000);
+        membershipService.addMembership(userId, MembershipType.LINE, 10000);
+        membershipId = membership.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public MembershipDetailResponse getMembership() {
+        return membershipService.getMembership(membershipId, userId);
+    }
+
+    @Benchmark
+    public List<MembershipDetailResponse> getMembershipList() {
+        return membershipService.getMembershipList(userId);
+    }
+
+    @Benchmark
+    public void accumulateMembershipPoint() {
+        membershipService.accumulateMembershipPoint(membershipId, userId, 10000);
+    }
+
+    @Benchmark
+    public void addAndRemoveMembership() {
+        final String newUserId = UUID.randomUUID().toString();
+        final MembershipAddResponse membership = membershipService.addMembership(newUserId, MembershipType.NAVER, 10000);
+        membershipService.removeMembership(membership.getId(), newUserId);
+    }
+
+}
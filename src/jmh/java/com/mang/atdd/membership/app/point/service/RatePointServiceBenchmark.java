@@ -0,0 +1,27 @@
+package com.mang.atdd.membership.app.point.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RatePointServiceBenchmark {
+
+    @Param({"10000", "123456789"})
+    public int price;
+
+    private PointService pointService;
+
+    @Setup
+    public void setUp() {
+        pointService = new RatePointService();
+    }
+
+    @Benchmark
+    public int calculateAmount() {
+        return pointService.calculateAmount(price);
+    }
+
+}
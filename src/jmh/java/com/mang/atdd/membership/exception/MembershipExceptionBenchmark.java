@@ -0,0 +1,63 @@
+package com.mang.atdd.membership.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 경로 비용 비교.
+ * withStackTrace / renderEveryTime 이 변경 전, stackless / prerendered 가 변경 후 경로이며,
+ * 전체 요청 경로(MockMvc, 예외 처리기, 로그 샘플링 포함)는 MembershipControllerBenchmark.getMembershipNotFound 로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MembershipExceptionBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] prerenderedBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        prerenderedBody = renderEveryTime().getBody();
+    }
+
+    @Benchmark
+    public MembershipException withStackTrace() {
+        return throwAndCatch(true);
+    }
+
+    @Benchmark
+    public MembershipException stackless() {
+        return throwAndCatch(false);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> renderEveryTime() throws Exception {
+        final MembershipErrorResult errorResult = MembershipErrorResult.MEMBERSHIP_NOT_FOUND;
+        final Map<String, String> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("code", errorResult.name());
+        errorResponse.put("message", errorResult.getMessage());
+        final byte[] body = objectMapper.writeValueAsBytes(errorResponse);
+        return ResponseEntity.status(errorResult.getHttpStatus()).body(body);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> prerendered() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(prerenderedBody);
+    }
+
+    private MembershipException throwAndCatch(final boolean writableStackTrace) {
+        try {
+            throw new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND, writableStackTrace);
+        } catch (final MembershipException e) {
+            return e;
+        }
+    }
+
+}
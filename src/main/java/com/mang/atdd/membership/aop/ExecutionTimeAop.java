@@ -1,37 +1,113 @@
 package com.mang.atdd.membership.aop;
 
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
 @Component
 @Log4j2
+@RequiredArgsConstructor
 public class ExecutionTimeAop {
 
+    static final String LATENCY_METRIC = "membership.api.latency";
+    static final String RESULT_METRIC = "membership.api.result";
+    static final String SUCCESS = "SUCCESS";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, ExecutionMetrics> executionMetricsMap = new ConcurrentHashMap<>();
+
     @Around("@within(com.mang.atdd.membership.aop.ExecutionTimeChecker)")
     public Object calculateExecutionTime(final ProceedingJoinPoint pjp) throws Throwable {
+        final ExecutionMetrics executionMetrics = executionMetrics(((MethodSignature) pjp.getSignature()).getMethod());
+
         // 해당 클래스 처리 전의 시간
-        final StopWatch sw = new StopWatch();
-        sw.start();
+        final long startTime = System.nanoTime();
+        try {
+            // 해당 클래스의 메소드 실행
+            final Object result = pjp.proceed();
+            executionMetrics.getSuccessCounter().increment();
+            return result;
+        } catch (final MembershipException e) {
+            executionMetrics.getErrorCounters().get(e.getErrorResult()).increment();
+            throw e;
+        } catch (final Throwable e) {
+            executionMetrics.getErrorCounters().get(MembershipErrorResult.UNKNOWN_EXCEPTION).increment();
+            throw e;
+        } finally {
+            // 해당 클래스 처리 후의 시간
+            final long executionTime = System.nanoTime() - startTime;
+            executionMetrics.getTimer().record(executionTime, TimeUnit.NANOSECONDS);
+
+            if (log.isDebugEnabled()) {
+                log.debug("[ExecutionTime] {}-->{}(ms)", executionMetrics.getTask(), TimeUnit.NANOSECONDS.toMillis(executionTime));
+            }
+        }
+    }
+
+    private ExecutionMetrics executionMetrics(final Method method) {
+        // 메소드별 지표는 최초 1회만 생성하고 이후에는 조회만 수행
+        final ExecutionMetrics executionMetrics = executionMetricsMap.get(method);
+        if (executionMetrics != null) {
+            return executionMetrics;
+        }
 
-        // 해당 클래스의 메소드 실행
-        final Object result = pjp.proceed();
+        return executionMetricsMap.computeIfAbsent(method, this::createExecutionMetrics);
+    }
+
+    private ExecutionMetrics createExecutionMetrics(final Method method) {
+        final String className = method.getDeclaringClass().getSimpleName();
+        final String methodName = method.getName();
+
+        final Timer timer = Timer.builder(LATENCY_METRIC)
+                .tag("class", className)
+                .tag("method", methodName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        final Counter successCounter = resultCounter(className, methodName, SUCCESS);
+        final Map<MembershipErrorResult, Counter> errorCounters = new EnumMap<>(MembershipErrorResult.class);
+        for (final MembershipErrorResult errorResult : MembershipErrorResult.values()) {
+            errorCounters.put(errorResult, resultCounter(className, methodName, errorResult.name()));
+        }
 
-        // 해당 클래스 처리 후의 시간
-        sw.stop();
-        final long executionTime = sw.getTotalTimeMillis();
+        return new ExecutionMetrics(className + "." + methodName, timer, successCounter, errorCounters);
+    }
+
+    private Counter resultCounter(final String className, final String methodName, final String result) {
+        return Counter.builder(RESULT_METRIC)
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
-        final String className = pjp.getTarget().getClass().getName();
-        final String methodName = pjp.getSignature().getName();
-        final String task = className + "." + methodName;
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ExecutionMetrics {
 
-        log.debug("[ExecutionTime] " + task + "-->" + executionTime + "(ms)");
+        private final String task;
+        private final Timer timer;
+        private final Counter successCounter;
+        private final Map<MembershipErrorResult, Counter> errorCounters;
 
-        return result;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.mang.atdd.membership.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// userId 파라미터를 기준으로 쓰기 직후의 읽기를 primary 로 보냄 (membership.datasource.routing.enabled=true 일 때만 동작)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReadYourWrites {
+}
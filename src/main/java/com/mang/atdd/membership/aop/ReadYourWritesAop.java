@@ -0,0 +1,39 @@
+package com.mang.atdd.membership.aop;
+
+import com.mang.atdd.membership.app.common.datasource.DataSourceRoutingContext;
+import com.mang.atdd.membership.app.common.datasource.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "membership.datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesAop {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Around("@within(com.mang.atdd.membership.aop.ReadYourWrites)")
+    public Object bindUserId(final ProceedingJoinPoint pjp) throws Throwable {
+        final String userId = UserIdArgument.find(pjp);
+        // 바깥 호출에서 이미 바인딩되었으면 그대로 사용
+        if (userId == null || DataSourceRoutingContext.isBound()) {
+            return pjp.proceed();
+        }
+
+        DataSourceRoutingContext.bind(userId);
+        try {
+            return pjp.proceed();
+        } finally {
+            if (DataSourceRoutingContext.isPrimaryWritten()) {
+                readYourWritesTracker.markWritten(userId);
+            }
+            DataSourceRoutingContext.clear();
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.mang.atdd.membership.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// userId 파라미터(또는 ShardKeyed 목록)를 기준으로 샤드를 정함 (membership.datasource.sharding.enabled=true 일 때만 동작)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Sharded {
+}
@@ -0,0 +1,104 @@
+package com.mang.atdd.membership.aop;
+
+import com.mang.atdd.membership.app.common.shard.ConsistentHashRing;
+import com.mang.atdd.membership.app.common.shard.ShardContext;
+import com.mang.atdd.membership.app.common.shard.ShardKeyed;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 트랜잭션이 시작되기 전에 샤드가 정해져야 하므로 가장 먼저 실행
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "membership.datasource.sharding.enabled", havingValue = "true")
+public class ShardingAop {
+
+    private final ConsistentHashRing membershipShardRing;
+
+    @Around("@within(com.mang.atdd.membership.aop.Sharded)")
+    public Object bindShard(final ProceedingJoinPoint pjp) throws Throwable {
+        // 바깥 호출에서 이미 바인딩되었으면 그대로 사용
+        if (ShardContext.isBound()) {
+            return pjp.proceed();
+        }
+
+        final Object[] args = pjp.getArgs();
+        final String userId = UserIdArgument.find(pjp);
+        if (userId != null) {
+            return proceedOn(membershipShardRing.locate(userId), pjp, args);
+        }
+
+        final int itemsIndex = findShardKeyedItems(args);
+        if (itemsIndex >= 0) {
+            return fanOut(pjp, args, itemsIndex);
+        }
+
+        return pjp.proceed();
+    }
+
+    // 항목을 샤드별로 나눠 샤드마다 한 번씩 실행하고 결과를 원래 순서로 합침 (샤드 간 원자성은 보장하지 않음)
+    private Object fanOut(final ProceedingJoinPoint pjp, final Object[] args, final int itemsIndex) throws Throwable {
+        final List<?> items = (List<?>) args[itemsIndex];
+        final Map<String, List<Integer>> positionsByShard = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            final String shard = membershipShardRing.locate(((ShardKeyed) items.get(i)).getUserId());
+            positionsByShard.computeIfAbsent(shard, k -> new ArrayList<>()).add(i);
+        }
+        if (positionsByShard.size() == 1) {
+            return proceedOn(positionsByShard.keySet().iterator().next(), pjp, args);
+        }
+        if (!List.class.isAssignableFrom(((MethodSignature) pjp.getSignature()).getReturnType())) {
+            throw new IllegalStateException("sharded fan-out requires a method returning results in item order: " + pjp.getSignature());
+        }
+
+        final Object[] results = new Object[items.size()];
+        for (final Map.Entry<String, List<Integer>> entry : positionsByShard.entrySet()) {
+            final List<Integer> positions = entry.getValue();
+            final List<Object> shardItems = new ArrayList<>(positions.size());
+            positions.forEach(position -> shardItems.add(items.get(position)));
+
+            final Object[] shardArgs = args.clone();
+            shardArgs[itemsIndex] = shardItems;
+            final List<?> shardResults = (List<?>) proceedOn(entry.getKey(), pjp, shardArgs);
+            for (int i = 0; i < positions.size(); i++) {
+                results[positions.get(i)] = shardResults.get(i);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private Object proceedOn(final String shard, final ProceedingJoinPoint pjp, final Object[] args) throws Throwable {
+        ShardContext.bind(shard);
+        try {
+            return pjp.proceed(args);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private int findShardKeyedItems(final Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof List && !((List<?>) args[i]).isEmpty() && ((List<?>) args[i]).get(0) instanceof ShardKeyed) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.mang.atdd.membership.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 같은 인자로 동시에 들어온 호출은 먼저 들어온 호출의 결과를 함께 사용 (조회 전용 메서드에만 사용)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SingleFlight {
+}
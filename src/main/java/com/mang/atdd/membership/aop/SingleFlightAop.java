@@ -0,0 +1,107 @@
+package com.mang.atdd.membership.aop;
+
+import com.mang.atdd.membership.app.common.hotkey.HotKeyTracker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 진행 중인 호출과 같은 메서드, 같은 인자의 호출은 DB 를 다시 조회하지 않고 진행 중인 결과를 기다린다.
+ * 대기하는 호출이 커넥션을 잡지 않도록 트랜잭션, 캐시보다 바깥에서 실행하며, 캐시 적중을 포함한 전체 요청의 키를 HotKeyTracker 에 기록한다.
+ * 캐시를 비우는 쓰기가 끝나면 그 사용자의 진행 중인 호출을 목록에서 떼어내, 이후의 호출이 쓰기보다 먼저 시작된 조회에 합류하지 않게 한다.
+ * 라우팅 설정과 무관하게 동작하며, 진행 중인 호출이 대기 시간 안에 끝나지 않으면 기다리던 호출이 직접 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SingleFlightAop {
+
+    private final HotKeyTracker hotKeyTracker;
+    private final long waitTimeoutMs;
+    private final ConcurrentHashMap<List<Object>, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SingleFlightAop(
+            final HotKeyTracker hotKeyTracker,
+            @Value("${membership.singleflight.wait-timeout-ms:3000}") final long waitTimeoutMs) {
+
+        this.hotKeyTracker = hotKeyTracker;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Around("@annotation(com.mang.atdd.membership.aop.SingleFlight)")
+    public Object coalesce(final ProceedingJoinPoint pjp) throws Throwable {
+        final MethodSignature signature = (MethodSignature) pjp.getSignature();
+        final Object[] args = pjp.getArgs();
+        recordHotKeys(signature.getParameterNames(), args);
+
+        final List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(signature.getMethod());
+        Collections.addAll(key, args);
+
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            return await(inFlightCall, pjp);
+        }
+
+        try {
+            final Object result = pjp.proceed();
+            call.complete(result);
+            return result;
+        } catch (final Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    // 트랜잭션보다 바깥에서 실행되므로 커밋 이후에 떼어내며, 이미 합류한 호출은 쓰기가 끝나기 전에 들어온 호출이다
+    @Around("@annotation(org.springframework.cache.annotation.Caching) || @annotation(org.springframework.cache.annotation.CacheEvict)")
+    public Object detachOnWrite(final ProceedingJoinPoint pjp) throws Throwable {
+        final String userId = UserIdArgument.find(pjp);
+        try {
+            return pjp.proceed();
+        } finally {
+            // userId 인자가 없는 일괄 쓰기는 모든 사용자의 호출을 떼어냄
+            inFlightCalls.keySet().removeIf(key -> userId == null || key.contains(userId));
+        }
+    }
+
+    private Object await(final CompletableFuture<Object> inFlightCall, final ProceedingJoinPoint pjp) throws Throwable {
+        try {
+            return inFlightCall.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException | CompletionException e) {
+            throw e.getCause();
+        } catch (final TimeoutException e) {
+            // 진행 중인 호출이 지연되면 기다리지 않고 직접 실행
+            return pjp.proceed();
+        }
+    }
+
+    private void recordHotKeys(final String[] parameterNames, final Object[] args) {
+        for (int i = 0; parameterNames != null && i < parameterNames.length; i++) {
+            if (HotKeyTracker.USER_ID.equals(parameterNames[i]) || HotKeyTracker.MEMBERSHIP_ID.equals(parameterNames[i])) {
+                hotKeyTracker.record(parameterNames[i], args[i]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.mang.atdd.membership.aop;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+// 대상 메서드의 userId 파라미터 값, 파라미터 이름으로 찾으므로 userId 가 아닌 이름으로 받으면 null
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class UserIdArgument {
+
+    static final String PARAMETER_NAME = "userId";
+
+    static String find(final ProceedingJoinPoint pjp) {
+        final String[] parameterNames = ((MethodSignature) pjp.getSignature()).getParameterNames();
+        final Object[] args = pjp.getArgs();
+        for (int i = 0; parameterNames != null && i < parameterNames.length; i++) {
+            if (PARAMETER_NAME.equals(parameterNames[i]) && args[i] instanceof String) {
+                return (String) args[i];
+            }
+        }
+
+        return null;
+    }
+
+}
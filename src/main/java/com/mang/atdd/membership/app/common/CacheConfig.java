@@ -0,0 +1,11 @@
+package com.mang.atdd.membership.app.common;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 트랜잭션보다 바깥에서 동작하도록 하여, 커밋 이후에 캐시가 무효화되도록 함
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+}
@@ -0,0 +1,40 @@
+package com.mang.atdd.membership.app.common;
+
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 에러 종류별로 interval 마다 한 번만 로그를 남기고, 그 사이에 생략한 건수를 함께 알려줌
+class ErrorLogSampler {
+
+    static final long SUPPRESSED = -1;
+
+    private final long intervalNanos;
+    private final Map<MembershipErrorResult, AtomicLong> lastLoggedAt = new EnumMap<>(MembershipErrorResult.class);
+    private final Map<MembershipErrorResult, AtomicLong> suppressedCounts = new EnumMap<>(MembershipErrorResult.class);
+
+    ErrorLogSampler(final long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        final long now = System.nanoTime();
+        for (final MembershipErrorResult errorResult : MembershipErrorResult.values()) {
+            lastLoggedAt.put(errorResult, new AtomicLong(now - intervalNanos));
+            suppressedCounts.put(errorResult, new AtomicLong());
+        }
+    }
+
+    // 로그를 남길 차례면 직전 로그 이후 생략한 건수를, 아니면 SUPPRESSED 를 반환
+    long sample(final MembershipErrorResult errorResult) {
+        final AtomicLong lastLogged = lastLoggedAt.get(errorResult);
+        final long last = lastLogged.get();
+        final long now = System.nanoTime();
+        if (now - last < intervalNanos || !lastLogged.compareAndSet(last, now)) {
+            suppressedCounts.get(errorResult).incrementAndGet();
+            return SUPPRESSED;
+        }
+        return suppressedCounts.get(errorResult).getAndSet(0);
+    }
+
+}
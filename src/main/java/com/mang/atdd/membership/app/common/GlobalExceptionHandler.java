@@ -1,5 +1,7 @@
 package com.mang.atdd.membership.app.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mang.atdd.membership.exception.MembershipErrorResult;
 import com.mang.atdd.membership.exception.MembershipException;
 import lombok.Getter;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,28 +18,59 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final long LOG_SAMPLE_INTERVAL_MILLIS = 1000;
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // 에러 응답 본문은 MembershipErrorResult 별로 고정이므로 미리 직렬화해 두고 재사용
+    private final Map<MembershipErrorResult, ResponseEntity<byte[]>> errorResponseEntities = renderErrorResponseEntities();
+    private final ErrorLogSampler errorLogSampler = new ErrorLogSampler(LOG_SAMPLE_INTERVAL_MILLIS);
+
     @ExceptionHandler({MembershipException.class})
-    public ResponseEntity<ErrorResponse> handleRestApiException(final MembershipException exception) {
-        log.warn("MembershipException occur: ", exception);
-        return this.makeErrorResponseEntity(exception.getErrorResult());
+    public ResponseEntity<byte[]> handleRestApiException(final MembershipException exception) {
+        final MembershipErrorResult errorResult = exception.getErrorResult();
+        final long suppressedCount = errorLogSampler.sample(errorResult);
+        if (suppressedCount != ErrorLogSampler.SUPPRESSED) {
+            if (MembershipException.isStackTraceEnabled()) {
+                log.warn("MembershipException occur: {} (suppressed {})", errorResult, suppressedCount, exception);
+            } else {
+                log.warn("MembershipException occur: {} (suppressed {})", errorResult, suppressedCount);
+            }
+        }
+        return errorResponseEntities.get(errorResult);
     }
 
     @ExceptionHandler({Exception.class})
-    public ResponseEntity<ErrorResponse> handleException(final Exception exception) {
+    public ResponseEntity<byte[]> handleException(final Exception exception) {
         log.warn("Exception occur: ", exception);
-        return this.makeErrorResponseEntity(MembershipErrorResult.UNKNOWN_EXCEPTION);
+        return errorResponseEntities.get(MembershipErrorResult.UNKNOWN_EXCEPTION);
     }
 
-    private ResponseEntity<ErrorResponse> makeErrorResponseEntity(final MembershipErrorResult errorResult) {
-        return ResponseEntity.status(errorResult.getHttpStatus())
-                .body(new ErrorResponse(errorResult.name(), errorResult.getMessage()));
+    private static Map<MembershipErrorResult, ResponseEntity<byte[]>> renderErrorResponseEntities() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final Map<MembershipErrorResult, ResponseEntity<byte[]>> result = new EnumMap<>(MembershipErrorResult.class);
+        for (final MembershipErrorResult errorResult : MembershipErrorResult.values()) {
+            try {
+                final byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse(errorResult.name(), errorResult.getMessage()));
+                final ResponseEntity.BodyBuilder builder = ResponseEntity.status(errorResult.getHttpStatus())
+                        .contentType(MediaType.APPLICATION_JSON);
+                if (errorResult.getHttpStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+                    builder.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                }
+                result.put(errorResult, builder.body(body));
+            } catch (final JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return result;
     }
 
     @Override
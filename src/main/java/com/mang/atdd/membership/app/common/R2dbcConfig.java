@@ -0,0 +1,38 @@
+package com.mang.atdd.membership.app.common;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+// R2DBC 트랜잭션 매니저는 등록하지 않아 JPA 트랜잭션 매니저가 그대로 유지됨 (reactive 경로는 단일 문장만 실행)
+@Configuration
+@Profile("reactive")
+public class R2dbcConfig {
+
+    @Bean
+    public ConnectionFactory connectionFactory(
+            @Value("${spring.r2dbc.url}") final String url,
+            @Value("${spring.r2dbc.username:}") final String username,
+            @Value("${spring.r2dbc.password:}") final String password) {
+
+        return ConnectionFactories.get(ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(USER, username)
+                .option(PASSWORD, password)
+                .build());
+    }
+
+    @Bean
+    public R2dbcEntityTemplate r2dbcEntityTemplate(final ConnectionFactory connectionFactory) {
+        return new R2dbcEntityTemplate(connectionFactory);
+    }
+
+}
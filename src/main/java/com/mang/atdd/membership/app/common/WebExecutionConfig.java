@@ -0,0 +1,60 @@
+package com.mang.atdd.membership.app.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_API_EXECUTOR;
+
+@Slf4j
+@Configuration
+public class WebExecutionConfig {
+
+    // virtual: Tomcat 요청을 가상 스레드에서 처리 (JDK 21 이상에서 실행될 때만 적용, 소스 호환성은 1.8 유지)
+    @Bean
+    @ConditionalOnProperty(name = "membership.web.execution-mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> {
+            if (virtualThreadExecutor != null) {
+                protocolHandler.setExecutor(virtualThreadExecutor);
+            }
+        };
+    }
+
+    // 비동기 컨트롤러가 사용하는 제한된 크기의 실행기, 큐가 가득 차면 SERVER_BUSY 로 거절
+    @Bean(name = MEMBERSHIP_API_EXECUTOR)
+    public ThreadPoolTaskExecutor membershipApiExecutor(
+            @Value("${membership.web.async.core-pool-size:16}") final int corePoolSize,
+            @Value("${membership.web.async.max-pool-size:64}") final int maxPoolSize,
+            @Value("${membership.web.async.queue-capacity:10000}") final int queueCapacity) {
+
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("membership-api-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported on Java {}. Falling back to the platform thread pool.",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.mang.atdd.membership.app.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Accept 헤더로 바이너리 응답 형식을 선택 (application/cbor, application/x-jackson-smile, 기본은 JSON).
+ * JSON 과 같은 Jackson 설정(spring.jackson.*)을 사용하되, 날짜는 문자열 대신 숫자 배열로 기록한다.
+ */
+@Configuration
+public class WebSerializationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(builder, new CBORFactory()));
+    }
+
+    // Smile 은 반복되는 필드명과 짧은 문자열(enum 이름 등)을 역참조로 기록하여 목록 응답이 작아짐
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+        final SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(builder, smileFactory));
+    }
+
+    private static ObjectMapper binaryObjectMapper(final Jackson2ObjectMapperBuilder builder, final JsonFactory factory) {
+        return builder.createXmlMapper(false)
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 현재 스레드에서 처리 중인 userId 와 primary 쓰기 여부
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    public static void bind(final String userId) {
+        CONTEXT.set(new Context(userId));
+    }
+
+    public static boolean isBound() {
+        return CONTEXT.get() != null;
+    }
+
+    public static String currentUserId() {
+        final Context context = CONTEXT.get();
+        return context == null ? null : context.userId;
+    }
+
+    public static void markPrimaryWritten() {
+        final Context context = CONTEXT.get();
+        if (context != null) {
+            context.primaryWritten = true;
+        }
+    }
+
+    public static boolean isPrimaryWritten() {
+        final Context context = CONTEXT.get();
+        return context != null && context.primaryWritten;
+    }
+
+    public static void clear() {
+        CONTEXT.remove();
+    }
+
+    private static final class Context {
+
+        private final String userId;
+        private boolean primaryWritten;
+
+        private Context(final String userId) {
+            this.userId = userId;
+        }
+
+    }
+
+}
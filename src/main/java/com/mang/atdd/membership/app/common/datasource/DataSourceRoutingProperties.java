@@ -0,0 +1,35 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "membership.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+    private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+    // 쓰기 이후 같은 userId 의 읽기를 primary 로 보내는 시간, 복제 지연보다 길게 설정
+    private long readYourWritesWindowMs = 1000;
+    private long readYourWritesMaximumSize = 100000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String driverClassName;
+        private String url;
+        private String username;
+        private String password;
+
+    }
+
+}
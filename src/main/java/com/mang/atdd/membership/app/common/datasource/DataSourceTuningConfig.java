@@ -0,0 +1,128 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/**
+ * HikariCP 풀 크기, MariaDB prepared statement 캐시, Hibernate 배치 크기를 한 곳에서 설정한다.
+ * 풀 대기 시간과 활성/유휴 커넥션 수는 hikaricp.connections.* 로, 쿼리 플랜 캐시 적중률은 membership.datasource.query.plan.cache.hit.ratio 로 노출된다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceTuningProperties.class)
+public class DataSourceTuningConfig {
+
+    static final String QUERY_PLAN_CACHE_HIT_RATIO_METRIC = "membership.datasource.query.plan.cache.hit.ratio";
+
+    @Bean
+    public static BeanPostProcessor hikariTuningPostProcessor(
+            final ObjectProvider<DataSourceTuningProperties> tuningProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    tune((HikariDataSource) bean, tuningProperties.getObject());
+                } else if (bean instanceof AbstractRoutingDataSource) {
+                    // replica, 샤드 풀은 빈이 아니므로 메트릭도 직접 등록
+                    for (final DataSource dataSource : ((AbstractRoutingDataSource) bean).getResolvedDataSources().values()) {
+                        if (!(dataSource instanceof HikariDataSource)) {
+                            continue;
+                        }
+                        final HikariDataSource hikariDataSource = (HikariDataSource) dataSource;
+                        tune(hikariDataSource, tuningProperties.getObject());
+                        meterRegistry.ifAvailable(registry -> hikariDataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateTuningCustomizer(final DataSourceTuningProperties tuningProperties) {
+        final DataSourceTuningProperties.Hibernate hibernate = tuningProperties.getHibernate();
+        return hibernateProperties -> {
+            if (hibernate.getJdbcBatchSize() != null) {
+                hibernateProperties.put("hibernate.jdbc.batch_size", hibernate.getJdbcBatchSize());
+            }
+            if (hibernate.isOrderInserts()) {
+                hibernateProperties.put("hibernate.order_inserts", true);
+            }
+            if (hibernate.isOrderUpdates()) {
+                hibernateProperties.put("hibernate.order_updates", true);
+                hibernateProperties.put("hibernate.jdbc.batch_versioned_data", true);
+            }
+            if (hibernate.getQueryPlanCacheMaxSize() != null) {
+                hibernateProperties.put("hibernate.query.plan_cache_max_size", hibernate.getQueryPlanCacheMaxSize());
+            }
+            if (hibernate.isStatisticsEnabled()) {
+                hibernateProperties.put("hibernate.generate_statistics", true);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "membership.datasource.tuning.hibernate.statistics-enabled", havingValue = "true")
+    public MeterBinder statementCacheMetrics(final EntityManagerFactory entityManagerFactory) {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> Gauge.builder(QUERY_PLAN_CACHE_HIT_RATIO_METRIC, statistics, DataSourceTuningConfig::queryPlanCacheHitRatio)
+                .description("Hibernate query plan cache hit ratio")
+                .register(registry);
+    }
+
+    static void tune(final HikariDataSource dataSource, final DataSourceTuningProperties tuningProperties) {
+        final DataSourceTuningProperties.Pool pool = tuningProperties.getPool();
+        if (pool.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        }
+        if (pool.getMinimumIdle() != null) {
+            dataSource.setMinimumIdle(pool.getMinimumIdle());
+        }
+        if (pool.getConnectionTimeoutMs() != null) {
+            dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        }
+        if (pool.getIdleTimeoutMs() != null) {
+            dataSource.setIdleTimeout(pool.getIdleTimeoutMs());
+        }
+        if (pool.getMaxLifetimeMs() != null) {
+            dataSource.setMaxLifetime(pool.getMaxLifetimeMs());
+        }
+
+        final DataSourceTuningProperties.StatementCache statementCache = tuningProperties.getStatementCache();
+        // H2 등은 모르는 접속 속성을 거부하므로 MariaDB/MySQL 에만 적용
+        if (statementCache.isEnabled() && supportsStatementCache(dataSource.getJdbcUrl())) {
+            dataSource.addDataSourceProperty("cachePrepStmts", "true");
+            dataSource.addDataSourceProperty("prepStmtCacheSize", String.valueOf(statementCache.getPrepStmtCacheSize()));
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(statementCache.getPrepStmtCacheSqlLimit()));
+            dataSource.addDataSourceProperty("useServerPrepStmts", String.valueOf(statementCache.isUseServerPrepStmts()));
+        }
+    }
+
+    private static boolean supportsStatementCache(final String jdbcUrl) {
+        return jdbcUrl != null && (jdbcUrl.startsWith("jdbc:mariadb:") || jdbcUrl.startsWith("jdbc:mysql:"));
+    }
+
+    private static double queryPlanCacheHitRatio(final Statistics statistics) {
+        final long hitCount = statistics.getQueryPlanCacheHitCount();
+        final long total = hitCount + statistics.getQueryPlanCacheMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 값을 지정하지 않은 항목은 HikariCP/Hibernate 기본값을 그대로 사용
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "membership.datasource.tuning")
+public class DataSourceTuningProperties {
+
+    private final Pool pool = new Pool();
+    private final StatementCache statementCache = new StatementCache();
+    private final Hibernate hibernate = new Hibernate();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private Integer maximumPoolSize;
+        private Integer minimumIdle;
+        private Long connectionTimeoutMs;
+        private Long idleTimeoutMs;
+        private Long maxLifetimeMs;
+
+    }
+
+    // MariaDB/MySQL 드라이버에만 적용
+    @Getter
+    @Setter
+    public static class StatementCache {
+
+        private boolean enabled;
+        private int prepStmtCacheSize = 250;
+        private int prepStmtCacheSqlLimit = 2048;
+        private boolean useServerPrepStmts = true;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Hibernate {
+
+        private Integer jdbcBatchSize;
+        private boolean orderInserts;
+        private boolean orderUpdates;
+        private Integer queryPlanCacheMaxSize;
+
+        // 쿼리 플랜 캐시 적중률을 메트릭으로 내보내기 위해 필요
+        private boolean statisticsEnabled;
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+
+// 최근에 쓰기가 발생한 userId, 윈도우가 지나면 자동으로 만료됨
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(final long windowMs, final long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(windowMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void markWritten(final String userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isRecentlyWritten(final String userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+
+}
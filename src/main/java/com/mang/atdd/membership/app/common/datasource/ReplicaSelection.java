@@ -0,0 +1,10 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+public enum ReplicaSelection {
+
+    ROUND_ROBIN,
+    // 활성 커넥션 수가 가장 적은 replica
+    LEAST_LOADED,
+    ;
+
+}
@@ -0,0 +1,91 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외에는 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(final HikariDataSource primary, final List<HikariDataSource> replicas,
+                                        final ReplicaSelection selection, final ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.selection = selection;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        final Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            DataSourceRoutingContext.markPrimaryWritten();
+            return PRIMARY;
+        }
+
+        final String userId = DataSourceRoutingContext.currentUserId();
+        if (replicas.isEmpty() || (userId != null && readYourWritesTracker.isRecentlyWritten(userId))) {
+            return PRIMARY;
+        }
+
+        return selection == ReplicaSelection.LEAST_LOADED ? leastLoadedReplica() : roundRobinReplica();
+    }
+
+    private int roundRobinReplica() {
+        return Math.floorMod(sequence.getAndIncrement(), replicas.size());
+    }
+
+    // 활성 커넥션 수가 같으면 순서대로 돌아가며 선택
+    private int leastLoadedReplica() {
+        final int start = roundRobinReplica();
+        int selected = start;
+        int minActiveConnections = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            final int index = (start + i) % replicas.size();
+            final int activeConnections = activeConnections(replicas.get(index));
+            if (activeConnections < minActiveConnections) {
+                minActiveConnections = activeConnections;
+                selected = index;
+            }
+        }
+
+        return selected;
+    }
+
+    private int activeConnections(final HikariDataSource dataSource) {
+        final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정된 메모리(depth * width 개의 카운터)로 키별 빈도를 근사한다.
+ * 추정값은 실제 빈도보다 작지 않으며, 해시 충돌만큼 크게 나올 수 있다.
+ * 키의 문자열 전체를 서로 다른 시드의 64비트 해시 두 개로 해시하고 행마다 h1 + row * h2 로 열을 정하므로,
+ * String.hashCode 가 같은 키라도 행마다 다른 열에 더해져 깊이만큼 정확도가 높아진다.
+ */
+public class CountMinSketch {
+
+    private static final int MAX_DEPTH = 16;
+    private static final long SEED1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counts;
+
+    public CountMinSketch(final int depth, final int width) {
+        if (depth < 1 || depth > MAX_DEPTH || width < 1) {
+            throw new IllegalArgumentException("depth must be between 1 and " + MAX_DEPTH + ", width must be positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new AtomicLongArray(depth * width);
+    }
+
+    // 더한 뒤의 추정 빈도를 반환
+    public long add(final String key, final long count) {
+        final long hash1 = hash(key, SEED1);
+        final long hash2 = hash(key, SEED2);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.addAndGet(index(row, hash1, hash2), count));
+        }
+        return estimate;
+    }
+
+    public long estimate(final String key) {
+        final long hash1 = hash(key, SEED1);
+        final long hash2 = hash(key, SEED2);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.get(index(row, hash1, hash2)));
+        }
+        return estimate;
+    }
+
+    // 오래된 빈도의 비중을 줄여 최근 부하를 반영
+    public void halve() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.updateAndGet(i, v -> v >> 1);
+        }
+    }
+
+    private int index(final int row, final long hash1, final long hash2) {
+        return row * width + (int) Math.floorMod(hash1 + row * hash2, (long) width);
+    }
+
+    // 시드를 초기값으로 한 FNV-1a (문자 단위) 후 murmur3 의 fmix64 로 비트를 섞음
+    static long hash(final String key, final long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * FNV_PRIME;
+        }
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+}
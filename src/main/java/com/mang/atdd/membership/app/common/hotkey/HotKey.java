@@ -0,0 +1,13 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class HotKey {
+
+    private final String key;
+    private final long estimatedCount;
+
+}
@@ -0,0 +1,59 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// CountMinSketch 의 추정 빈도가 가장 큰 키 topK 개를 후보로 유지
+public class HotKeySketch {
+
+    private final CountMinSketch countMinSketch;
+    private final int topK;
+    private final ConcurrentHashMap<String, Long> candidates = new ConcurrentHashMap<>();
+
+    public HotKeySketch(final int depth, final int width, final int topK) {
+        this.countMinSketch = new CountMinSketch(depth, width);
+        this.topK = topK;
+    }
+
+    public void add(final String key, final long count) {
+        final long estimate = countMinSketch.add(key, count);
+        if (candidates.replace(key, estimate) != null) {
+            return;
+        }
+        if (candidates.size() < topK) {
+            candidates.put(key, estimate);
+            return;
+        }
+
+        // 후보 교체는 샘플링된 요청에서만 일어나므로 단순하게 잠금 후 최소값과 비교
+        synchronized (this) {
+            final Map.Entry<String, Long> min = candidates.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .orElse(null);
+            if (min == null || estimate > min.getValue()) {
+                if (min != null) {
+                    candidates.remove(min.getKey());
+                }
+                candidates.put(key, estimate);
+            }
+        }
+    }
+
+    public List<HotKey> topKeys() {
+        return candidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(topK)
+                .map(v -> new HotKey(v.getKey(), v.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    public synchronized void decay() {
+        countMinSketch.halve();
+        candidates.replaceAll((key, count) -> count >> 1);
+        candidates.values().removeIf(count -> count == 0);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조회 요청의 userId, membershipId 를 샘플링하여 부하가 몰리는 키를 추적한다.
+ * sample-rate 가 N 이면 N 건 중 1 건만 기록하고 N 으로 가중하므로 추정 빈도는 전체 요청 수 기준이다.
+ */
+@Component
+public class HotKeyTracker {
+
+    public static final String USER_ID = "userId";
+    public static final String MEMBERSHIP_ID = "membershipId";
+
+    private final Map<String, HotKeySketch> sketches = new LinkedHashMap<>();
+    private final int sampleRate;
+
+    public HotKeyTracker(
+            @Value("${membership.hotkey.sample-rate:10}") final int sampleRate,
+            @Value("${membership.hotkey.top-k:20}") final int topK,
+            @Value("${membership.hotkey.sketch-depth:4}") final int depth,
+            @Value("${membership.hotkey.sketch-width:2048}") final int width) {
+
+        this.sampleRate = Math.max(1, sampleRate);
+        sketches.put(USER_ID, new HotKeySketch(depth, width, topK));
+        sketches.put(MEMBERSHIP_ID, new HotKeySketch(depth, width, topK));
+    }
+
+    public void record(final String dimension, final Object key) {
+        final HotKeySketch sketch = sketches.get(dimension);
+        if (sketch == null || key == null) {
+            return;
+        }
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+
+        sketch.add(key.toString(), sampleRate);
+    }
+
+    public Map<String, List<HotKey>> topKeys() {
+        final Map<String, List<HotKey>> result = new LinkedHashMap<>();
+        sketches.forEach((dimension, sketch) -> result.put(dimension, sketch.topKeys()));
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${membership.hotkey.decay-interval-ms:60000}")
+    public void decay() {
+        sketches.values().forEach(HotKeySketch::decay);
+    }
+
+}
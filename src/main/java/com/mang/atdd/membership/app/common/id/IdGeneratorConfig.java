@@ -0,0 +1,22 @@
+package com.mang.atdd.membership.app.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 인스턴스마다 다른 membership.id.node-id 를 지정해야 id 가 겹치지 않으므로, 기본값 없이 지정하지 않으면 기동에 실패
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${membership.id.node-id}") final int nodeId) {
+        return SnowflakeIdGenerator.shared(nodeId);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernateCustomizer(@Value("${membership.id.node-id}") final int nodeId) {
+        return hibernateProperties -> hibernateProperties.put(SnowflakeIdentifierGenerator.NODE_ID_SETTING, nodeId);
+    }
+
+}
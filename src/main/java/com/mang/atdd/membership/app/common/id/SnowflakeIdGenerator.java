@@ -0,0 +1,78 @@
+package com.mang.atdd.membership.app.common.id;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 41비트 타임스탬프(ms) + 10비트 노드 + 12비트 시퀀스로 구성된 64비트 id 생성기.
+ * 샤드와 무관하게 전역에서 유일하므로 샤드 간 데이터를 옮겨도 id 가 유지된다.
+ *
+ * 마지막 타임스탬프와 시퀀스를 하나의 AtomicLong 에 담아 CAS 로 갱신하므로 락 없이 동작한다.
+ * 시계가 뒤로 가면 허용 범위(maxBackwardMillis) 안에서는 마지막 타임스탬프를 계속 사용하여 id 순서를 유지하고,
+ * 그보다 크게 뒤로 가면 중복을 막기 위해 예외를 던진다. 노드당 밀리초마다 최대 4096개까지 생성된다.
+ */
+public class SnowflakeIdGenerator {
+
+    // 2021-01-01T00:00:00Z
+    static final long EPOCH_MILLI = 1609459200000L;
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    static final long DEFAULT_MAX_BACKWARD_MILLIS = 1000;
+
+    // JPA, JDBC 일괄 등록, R2DBC 경로가 같은 노드 id 로 하나의 시퀀스를 공유
+    private static final ConcurrentMap<Integer, SnowflakeIdGenerator> SHARED = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final Clock clock;
+    private final long maxBackwardMillis;
+
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(final int nodeId) {
+        this(nodeId, Clock.systemUTC(), DEFAULT_MAX_BACKWARD_MILLIS);
+    }
+
+    SnowflakeIdGenerator(final int nodeId, final Clock clock, final long maxBackwardMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+        this.maxBackwardMillis = maxBackwardMillis;
+    }
+
+    public static SnowflakeIdGenerator shared(final int nodeId) {
+        return SHARED.computeIfAbsent(nodeId, SnowflakeIdGenerator::new);
+    }
+
+    public long nextId() {
+        while (true) {
+            final long current = state.get();
+            final long lastTimestamp = current >>> SEQUENCE_BITS;
+            final long timestamp = clock.millis() - EPOCH_MILLI;
+
+            final long next;
+            if (timestamp > lastTimestamp) {
+                next = timestamp << SEQUENCE_BITS;
+            } else if (lastTimestamp - timestamp > maxBackwardMillis) {
+                throw new IllegalStateException("clock moved backwards by " + (lastTimestamp - timestamp) + "ms");
+            } else if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                // 마지막 타임스탬프의 시퀀스를 모두 썼으면 시계가 따라올 때까지 대기
+                Thread.yield();
+                continue;
+            } else {
+                next = current + 1;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_ID_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.mang.atdd.membership.app.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+// Hibernate 가 직접 생성하므로 노드 id 는 Hibernate 설정(IdGeneratorConfig 에서 전달)으로 받음
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "snowflake";
+    public static final String NODE_ID_SETTING = "membership.id.node-id";
+
+    private SnowflakeIdGenerator idGenerator;
+
+    @Override
+    public void configure(final Type type, final Properties params, final ServiceRegistry serviceRegistry) {
+        final Object nodeId = serviceRegistry.getService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING);
+        if (nodeId == null) {
+            throw new IllegalStateException(NODE_ID_SETTING + " must be set");
+        }
+        idGenerator = SnowflakeIdGenerator.shared(Integer.parseInt(nodeId.toString()));
+    }
+
+    @Override
+    public Serializable generate(final SharedSessionContractImplementor session, final Object object) {
+        return idGenerator.nextId();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 전역 동시 처리 요청 수를 AIMD 로 조정한다.
+ * 응답 시간이 기준 이내면 상한까지 찬 상태에서 요청이 끝날 때마다 1/limit 씩 늘리고(상한만큼 끝나면 1 증가),
+ * 기준을 넘거나 실패하면 backoffRatio 배로 줄인다. 감소는 기준 시간에 한 번만 적용하여 같은 혼잡으로 연속해서 줄지 않도록 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreasedAt;
+
+    public AdaptiveConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit,
+                                      final long latencyThresholdMillis, final double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        this.lastDecreasedAt = new AtomicLong(System.nanoTime() - latencyThresholdNanos);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(final long latencyNanos, final boolean success) {
+        release(latencyNanos, success, System.nanoTime());
+    }
+
+    void release(final long latencyNanos, final boolean success, final long now) {
+        final int current = inFlight.getAndDecrement();
+        if (!success || latencyNanos > latencyThresholdNanos) {
+            final long lastDecreased = lastDecreasedAt.get();
+            if (now - lastDecreased >= latencyThresholdNanos && lastDecreasedAt.compareAndSet(lastDecreased, now)) {
+                updateLimit(limit -> limit * backoffRatio);
+            }
+        } else if (current * 2 >= getLimit()) {
+            // 상한의 절반 이상을 쓰고 있을 때만 늘려, 한가할 때 상한이 의미 없이 커지지 않도록 함
+            updateLimit(limit -> limit + 1 / limit);
+        }
+    }
+
+    // 처리하지 않고 돌려주는 허가는 응답 시간 표본이 아니므로 상한을 조정하지 않음
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void updateLimit(final DoubleUnaryOperator operator) {
+        while (true) {
+            final long bits = limitBits.get();
+            final double next = Math.max(minLimit, Math.min(maxLimit, operator.applyAsDouble(Double.longBitsToDouble(bits))));
+            if (limitBits.compareAndSet(bits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// /api/v1/memberships/**, /api/v1/async/memberships/** 요청에 적용 (비동기 요청은 실행기에서 처리가 끝날 때까지 허가를 유지)
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "membership.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public UserRateLimiter userRateLimiter() {
+        final RateLimitProperties.User user = properties.getUser();
+        final UserRateLimiter userRateLimiter = new UserRateLimiter(user.getPermitsPerSecond(), user.getBurst(), user.getMaxUsers());
+        Gauge.builder("membership.ratelimit.user.buckets", userRateLimiter, UserRateLimiter::size)
+                .register(meterRegistry);
+        return userRateLimiter;
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter() {
+        final RateLimitProperties.Global global = properties.getGlobal();
+        final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                global.getInitialLimit(), global.getMinLimit(), global.getMaxLimit(),
+                global.getLatencyThresholdMs(), global.getBackoffRatio());
+        Gauge.builder("membership.ratelimit.global.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("membership.ratelimit.global.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        return concurrencyLimiter;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(userRateLimiter(), adaptiveConcurrencyLimiter(), meterRegistry))
+                .addPathPatterns("/api/v1/memberships", "/api/v1/memberships/**",
+                        "/api/v1/async/memberships", "/api/v1/async/memberships/**");
+    }
+
+    @Scheduled(fixedDelayString = "${membership.ratelimit.user.evict-interval-ms:60000}")
+    public void evictIdleUsers() {
+        userRateLimiter().evictIdle();
+    }
+
+}
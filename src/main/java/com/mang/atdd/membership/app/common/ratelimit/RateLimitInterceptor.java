@@ -0,0 +1,74 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+
+// 전역 동시 처리 수 제한을 먼저 적용하여 초과하면 SERVER_BUSY 로, 그 다음 사용자별 요청 수 제한을 초과하면 TOO_MANY_REQUESTS 로 거절
+// 서버가 바빠 거절된 요청은 사용자의 토큰을 쓰지 않고, 사용자별 제한으로 거절된 요청은 받은 전역 허가를 돌려줌
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String REJECTED_METRIC = "membership.ratelimit.rejected";
+    private static final String START_TIME_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".startTime";
+
+    private final UserRateLimiter userRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter userRejectedCounter;
+    private final Counter globalRejectedCounter;
+
+    public RateLimitInterceptor(final UserRateLimiter userRateLimiter,
+                                final AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                final MeterRegistry meterRegistry) {
+        this.userRateLimiter = userRateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.userRejectedCounter = Counter.builder(REJECTED_METRIC)
+                .tag("limiter", "user")
+                .register(meterRegistry);
+        this.globalRejectedCounter = Counter.builder(REJECTED_METRIC)
+                .tag("limiter", "global")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        // 비동기 처리, 스트리밍 응답의 재디스패치는 처음 디스패치에서 받은 허가를 그대로 사용
+        if (request.getAttribute(START_TIME_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            globalRejectedCounter.increment();
+            throw new MembershipException(MembershipErrorResult.SERVER_BUSY);
+        }
+        final String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null && !userRateLimiter.tryAcquire(userId)) {
+            concurrencyLimiter.cancel();
+            userRejectedCounter.increment();
+            throw new MembershipException(MembershipErrorResult.TOO_MANY_REQUESTS);
+        }
+
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        final Object startTime = request.getAttribute(START_TIME_ATTRIBUTE);
+        if (startTime == null) {
+            return;
+        }
+
+        request.removeAttribute(START_TIME_ATTRIBUTE);
+        final boolean success = ex == null && response.getStatus() < 500;
+        concurrencyLimiter.release(System.nanoTime() - (Long) startTime, success);
+    }
+
+}
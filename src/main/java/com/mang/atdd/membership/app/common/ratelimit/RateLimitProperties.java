@@ -0,0 +1,45 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "membership.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private User user = new User();
+    private Global global = new Global();
+
+    @Getter
+    @Setter
+    public static class User {
+
+        // 사용자(X-USER-ID)별 초당 허용 요청 수와 순간적으로 허용하는 최대 요청 수
+        private double permitsPerSecond = 100;
+        private int burst = 200;
+
+        // 추적하는 사용자 수 상한, 가득 차면 충분히 쉬어 가득 찬 버킷부터 제거
+        private int maxUsers = 100000;
+        private long evictIntervalMs = 60000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Global {
+
+        // 동시 처리 요청 수 상한의 초기값과 조정 범위
+        private int initialLimit = 64;
+        private int minLimit = 8;
+        private int maxLimit = 512;
+
+        // 응답 시간이 기준을 넘거나 서버 에러가 나면 상한을 backoff-ratio 배로 줄이고, 그렇지 않으면 조금씩 늘림
+        private long latencyThresholdMs = 200;
+        private double backoffRatio = 0.9;
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 토큰 버킷을 GCRA(Generic Cell Rate Algorithm)로 구현한다.
+ * 버킷 하나를 다음 요청의 이론적 도착 시각(TAT) 하나로 표현하므로 사용자당 AtomicLong 하나만 필요하고 CAS 로만 갱신한다.
+ */
+public class UserRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxUsers;
+    private final ConcurrentHashMap<String, AtomicLong> theoreticalArrivalTimes = new ConcurrentHashMap<>();
+
+    public UserRateLimiter(final double permitsPerSecond, final int burst, final int maxUsers) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxUsers < 1) {
+            throw new IllegalArgumentException("permitsPerSecond, burst and maxUsers must be positive");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxUsers = maxUsers;
+    }
+
+    public boolean tryAcquire(final String userId) {
+        return tryAcquire(userId, System.nanoTime());
+    }
+
+    boolean tryAcquire(final String userId, final long now) {
+        AtomicLong theoreticalArrivalTime = theoreticalArrivalTimes.get(userId);
+        if (theoreticalArrivalTime == null) {
+            if (theoreticalArrivalTimes.size() >= maxUsers) {
+                evictIdle(now);
+            }
+            // 그래도 가득 찼다면 버킷 없이 허용하고 전역 동시성 제한에 맡김 (사용자 식별값을 바꿔 가며 보내는 요청으로 메모리가 늘지 않도록)
+            if (theoreticalArrivalTimes.size() >= maxUsers) {
+                return true;
+            }
+            theoreticalArrivalTime = theoreticalArrivalTimes.computeIfAbsent(userId, key -> new AtomicLong(now));
+        }
+
+        while (true) {
+            final long tat = theoreticalArrivalTime.get();
+            final long base = tat - now > 0 ? tat : now;
+            if (base - now > toleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    // TAT 가 지난 버킷은 토큰이 가득 찬 상태이므로 제거해도 다음 요청의 허용 여부가 달라지지 않음
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(final long now) {
+        final int before = theoreticalArrivalTimes.size();
+        theoreticalArrivalTimes.entrySet().removeIf(v -> v.getValue().get() - now <= 0);
+        return before - theoreticalArrivalTimes.size();
+    }
+
+    public int size() {
+        return theoreticalArrivalTimes.size();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 사용하는 consistent hash 링.
+ * 샤드를 추가하면 기존 키 중 약 1/N 만 새 샤드로 이동하고 나머지는 그대로 유지된다.
+ */
+public final class ConsistentHashRing {
+
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> ring;
+
+    public ConsistentHashRing(final Collection<String> shards, final int virtualNodes) {
+        if (shards.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("at least one shard and one virtual node are required");
+        }
+
+        final TreeMap<Long, String> ring = new TreeMap<>();
+        for (final String shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard + "#" + i), shard);
+            }
+        }
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        this.ring = Collections.unmodifiableNavigableMap(ring);
+    }
+
+    public String locate(final String key) {
+        final Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return (entry == null ? ring.firstEntry() : entry).getValue();
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    // MD5 앞 8바이트, 키 길이와 관계없이 고르게 분포함
+    static long hash(final String key) {
+        final byte[] digest = MD5.get().digest(key.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xff);
+        }
+        return hash;
+    }
+
+}
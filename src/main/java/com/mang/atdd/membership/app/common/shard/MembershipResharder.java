@@ -0,0 +1,109 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 샤드를 id 순으로 훑어 현재 해시 링 기준으로 다른 샤드에 속한 멤버십을 옮긴다.
+ * 대상 샤드에 복사한 뒤 원본에서 삭제하며, 중간에 실패해도 다시 실행하면 이어서 처리된다.
+ * 이동 중인 행에 대한 쓰기는 고려하지 않으므로 쓰기가 없는 상태에서 실행해야 한다.
+ * reshard-on-startup 은 웹 서버가 요청을 받기 전에 실행하며, 다른 인스턴스가 요청을 처리하는 중이면 사용할 수 없다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MembershipResharder {
+
+    private static final String SELECT_SQL = "SELECT id, membership_type, user_id, point, created_at, updated_at, version " +
+            "FROM membership WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_EXISTING_ID_SQL = "SELECT id FROM membership WHERE id IN (:ids)";
+    private static final String INSERT_SQL = "INSERT INTO membership (id, membership_type, user_id, point, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM membership WHERE id = ?";
+
+    private static final int ID = 0;
+    private static final int USER_ID = 2;
+
+    private static final RowMapper<Object[]> ROW_MAPPER = (rs, rowNum) -> new Object[]{
+            rs.getLong("id"),
+            rs.getString("membership_type"),
+            rs.getString("user_id"),
+            rs.getInt("point"),
+            rs.getTimestamp("created_at"),
+            rs.getTimestamp("updated_at"),
+            rs.getObject("version")
+    };
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final ConsistentHashRing shardRing;
+    private final int batchSize;
+
+    // 샤드별로 다른 샤드로 옮긴 멤버십 수
+    public Map<String, Integer> reshard() {
+        // 샤드별 템플릿은 실행마다 한 번만 만들어 원본과 대상에 함께 사용
+        final Map<String, NamedParameterJdbcTemplate> templates = new LinkedHashMap<>();
+        for (final String shard : shardRing.getShards()) {
+            templates.put(shard, new NamedParameterJdbcTemplate(shardRoutingDataSource.getShard(shard)));
+        }
+
+        final Map<String, Integer> movedCounts = new LinkedHashMap<>();
+        for (final String shard : shardRing.getShards()) {
+            movedCounts.put(shard, reshard(shard, templates));
+        }
+
+        log.info("membership reshard completed: {}", movedCounts);
+        return movedCounts;
+    }
+
+    private int reshard(final String sourceShard, final Map<String, NamedParameterJdbcTemplate> templates) {
+        final JdbcTemplate source = templates.get(sourceShard).getJdbcTemplate();
+        long after = Long.MIN_VALUE;
+        int movedCount = 0;
+        while (true) {
+            final List<Object[]> rows = source.query(SELECT_SQL, ROW_MAPPER, after, batchSize);
+            if (rows.isEmpty()) {
+                return movedCount;
+            }
+            after = (Long) rows.get(rows.size() - 1)[ID];
+
+            final Map<String, List<Object[]>> misplacedRows = rows.stream()
+                    .filter(row -> !sourceShard.equals(shardRing.locate((String) row[USER_ID])))
+                    .collect(Collectors.groupingBy(row -> shardRing.locate((String) row[USER_ID])));
+            for (final Map.Entry<String, List<Object[]>> entry : misplacedRows.entrySet()) {
+                move(source, templates.get(entry.getKey()), entry.getValue());
+                movedCount += entry.getValue().size();
+            }
+        }
+    }
+
+    private void move(final JdbcTemplate source, final NamedParameterJdbcTemplate target, final List<Object[]> rows) {
+        final List<Long> ids = rows.stream()
+                .map(row -> (Long) row[ID])
+                .collect(Collectors.toList());
+
+        // 이전 실행에서 복사만 되고 삭제되지 않은 행은 다시 복사하지 않음
+        final Set<Long> existingIds = new HashSet<>(target.queryForList(SELECT_EXISTING_ID_SQL, Collections.singletonMap("ids", ids), Long.class));
+        final List<Object[]> newRows = rows.stream()
+                .filter(row -> !existingIds.contains((Long) row[ID]))
+                .collect(Collectors.toList());
+        if (!newRows.isEmpty()) {
+            target.getJdbcTemplate().batchUpdate(INSERT_SQL, newRows);
+        }
+
+        final List<Object[]> deleteArgs = new ArrayList<>(ids.size());
+        ids.forEach(id -> deleteArgs.add(new Object[]{id}));
+        source.batchUpdate(DELETE_SQL, deleteArgs);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 현재 스레드에서 사용할 샤드, 바인딩되지 않으면 기본 샤드를 사용
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardContext {
+
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    public static void bind(final String shard) {
+        SHARD.set(shard);
+    }
+
+    public static boolean isBound() {
+        return SHARD.get() != null;
+    }
+
+    public static String currentShard() {
+        return SHARD.get();
+    }
+
+    public static void clear() {
+        SHARD.remove();
+    }
+
+}
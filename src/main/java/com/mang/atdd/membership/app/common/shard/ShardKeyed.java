@@ -0,0 +1,8 @@
+package com.mang.atdd.membership.app.common.shard;
+
+// 여러 사용자의 항목을 한 번에 처리하는 메서드에서 항목별로 샤드를 찾기 위한 키
+public interface ShardKeyed {
+
+    String getUserId();
+
+}
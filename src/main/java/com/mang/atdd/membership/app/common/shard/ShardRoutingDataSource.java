@@ -0,0 +1,57 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ShardContext 에 바인딩된 샤드로 커넥션을 보낸다.
+ * 트랜잭션이 시작된 뒤에는 샤드를 바꿀 수 없으므로 샤드는 트랜잭션 바깥에서 정해져야 한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<String, HikariDataSource> shards;
+    private final String defaultShard;
+
+    public ShardRoutingDataSource(final Map<String, HikariDataSource> shards, final String defaultShard) {
+        this.shards = shards;
+        this.defaultShard = defaultShard;
+
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultShard));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.currentShard();
+    }
+
+    public Set<String> getShardNames() {
+        return Collections.unmodifiableSet(shards.keySet());
+    }
+
+    // 바인딩되지 않은 경우(null) 기본 샤드
+    public String resolveShard(final String shard) {
+        return shard == null ? defaultShard : shard;
+    }
+
+    public DataSource getShard(final String shard) {
+        final DataSource dataSource = shards.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        shards.values().forEach(HikariDataSource::close);
+    }
+
+}
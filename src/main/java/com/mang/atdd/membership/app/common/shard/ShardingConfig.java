@@ -0,0 +1,103 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * membership 테이블을 userId 의 consistent hash 로 여러 샤드에 나눠 저장한다.
+ * 백그라운드로 전체 멤버십을 처리하는 적립 모드(buffered, ledger), outbox, 읽기/쓰기 분리 라우팅은 함께 사용할 수 없다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(name = "membership.datasource.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final List<String> UNSUPPORTED_ACCUMULATE_MODES = Arrays.asList("buffered", "ledger");
+
+    @Bean
+    public ConsistentHashRing membershipShardRing(final ShardingProperties shardingProperties) {
+        final List<String> shardNames = shardingProperties.getShards().stream()
+                .map(ShardingProperties.Shard::getName)
+                .collect(Collectors.toList());
+
+        return new ConsistentHashRing(shardNames, shardingProperties.getVirtualNodes());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(
+            final ShardingProperties shardingProperties,
+            @Value("${membership.point.accumulate-mode:atomic}") final String accumulateMode,
+            @Value("${membership.datasource.routing.enabled:false}") final boolean routingEnabled,
+            @Value("${membership.outbox.enabled:false}") final boolean outboxEnabled) {
+
+        if (UNSUPPORTED_ACCUMULATE_MODES.contains(accumulateMode) || routingEnabled || outboxEnabled) {
+            throw new IllegalStateException("sharding does not support accumulate-mode " + accumulateMode + ", read/write routing or outbox");
+        }
+
+        final Map<String, HikariDataSource> shards = new LinkedHashMap<>();
+        for (final ShardingProperties.Shard shard : shardingProperties.getShards()) {
+            final HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(shard.getDriverClassName())
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName(shard.getName());
+            if (shards.put(shard.getName(), dataSource) != null) {
+                throw new IllegalStateException("duplicated shard name: " + shard.getName());
+            }
+        }
+
+        return new ShardRoutingDataSource(shards, shardingProperties.getShards().get(0).getName());
+    }
+
+    // 풀 설정은 시작 전에만 바꿀 수 있으므로 라우팅 데이터소스 초기화가 끝난 뒤 실행
+    @Bean
+    @ConditionalOnProperty(name = "membership.datasource.sharding.initialize-schema", havingValue = "true")
+    public InitializingBean shardSchemaInitializer(final ShardRoutingDataSource shardRoutingDataSource,
+                                                   final ConsistentHashRing membershipShardRing) {
+        final ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("db/shard/membership.sql"));
+        return () -> membershipShardRing.getShards()
+                .forEach(shard -> populator.execute(shardRoutingDataSource.getShard(shard)));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public MembershipResharder membershipResharder(final ShardRoutingDataSource shardRoutingDataSource,
+                                                   final ConsistentHashRing membershipShardRing,
+                                                   final ShardingProperties shardingProperties) {
+        return new MembershipResharder(shardRoutingDataSource, membershipShardRing, shardingProperties.getReshardBatchSize());
+    }
+
+    // 웹 서버와 스케줄러는 모든 빈 초기화가 끝난 뒤 시작되므로, 요청을 받기 전에 재배치가 끝남
+    @Bean
+    @ConditionalOnProperty(name = "membership.datasource.sharding.reshard-on-startup", havingValue = "true")
+    public SmartInitializingSingleton membershipReshardRunner(final MembershipResharder membershipResharder) {
+        return membershipResharder::reshard;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "membership.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    // 샤드 하나당 해시 링에 올리는 가상 노드 수, 클수록 분포가 고르지만 링 조회 비용이 늘어남
+    private int virtualNodes = 160;
+
+    // 각 샤드에 db/shard/membership.sql 실행 (Hibernate DDL 은 기본 샤드에만 적용되므로 로컬/테스트 용도)
+    private boolean initializeSchema;
+
+    // 기동 시 현재 샤드 구성에 맞지 않는 위치의 멤버십을 옮김
+    private boolean reshardOnStartup;
+    private int reshardBatchSize = 500;
+
+    // 첫 번째 샤드가 기본 샤드이며, 샤딩하지 않는 테이블도 기본 샤드에 저장됨
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String name;
+        private String driverClassName;
+        private String url;
+        private String username;
+        private String password;
+
+    }
+
+}
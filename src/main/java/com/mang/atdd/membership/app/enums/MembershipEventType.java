@@ -0,0 +1,10 @@
+package com.mang.atdd.membership.app.enums;
+
+public enum MembershipEventType {
+
+    MEMBERSHIP_ADDED,
+    MEMBERSHIP_REMOVED,
+    POINT_ACCUMULATED,
+    ;
+
+}
@@ -0,0 +1,24 @@
+package com.mang.atdd.membership.app.idempotency.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+public class IdempotentResponse {
+
+    // 같은 키의 첫 요청이 아직 처리 중임을 나타냄
+    public static final IdempotentResponse IN_PROGRESS = new IdempotentResponse(0, null);
+
+    private final int statusCode;
+
+    // JSON 으로 직렬화된 응답 본문, 본문이 없으면 null
+    private final String responseBody;
+
+    public boolean isInProgress() {
+        return this == IN_PROGRESS;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.mang.atdd.membership.app.idempotency.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// Idempotency-Key 와 응답 결과, 요청 처리와 같은 트랜잭션에서 기록
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_idempotency_record_created_at", columnList = "created_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public static final int KEY_LENGTH = 64;
+
+    // userId:operation:Idempotency-Key 의 SHA-256 (hex), 사용자 id 길이와 관계없이 고정 길이
+    @Id
+    @Column(nullable = false, length = KEY_LENGTH)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Integer statusCode;
+
+    @Lob
+    private String responseBody;
+
+    @CreationTimestamp
+    @Column(nullable = false, length = 20, updatable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,8 @@
+package com.mang.atdd.membership.app.idempotency.repository;
+
+public interface IdempotencyRecordRepositoryCustom {
+
+    // 처리 결과를 바로 INSERT, 같은 키의 레코드가 이미 있으면 DuplicateKeyException
+    void insert(final String idempotencyKey, final int statusCode, final String responseBody);
+
+}
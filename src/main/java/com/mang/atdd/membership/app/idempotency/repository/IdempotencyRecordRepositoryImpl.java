@@ -0,0 +1,25 @@
+package com.mang.atdd.membership.app.idempotency.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryImpl implements IdempotencyRecordRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_record (idempotency_key, status_code, response_body, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // flush 시점까지 미루지 않고 바로 실행하여, 같은 키의 요청이 동시에 커밋되려 하면 나중 요청이 여기서 실패함
+    @Override
+    @Transactional
+    public void insert(final String idempotencyKey, final int statusCode, final String responseBody) {
+        jdbcTemplate.update(INSERT_SQL, idempotencyKey, statusCode, responseBody, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+}
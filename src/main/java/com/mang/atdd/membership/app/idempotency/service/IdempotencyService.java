@@ -0,0 +1,202 @@
+package com.mang.atdd.membership.app.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mang.atdd.membership.app.idempotency.dto.IdempotentResponse;
+import com.mang.atdd.membership.app.idempotency.entity.IdempotencyRecord;
+import com.mang.atdd.membership.app.idempotency.repository.IdempotencyRecordRepository;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 Idempotency-Key 로 재시도된 요청에 처음 처리한 결과를 그대로 돌려준다.
+ * 최근 키는 메모리 윈도우에서 확인하고, 처리 결과는 요청 처리와 같은 트랜잭션에서 영속 테이블에 한 번만 기록한다.
+ * 다른 인스턴스가 같은 키를 먼저 커밋했으면 기본 키 중복으로 이 요청의 처리가 롤백되고 저장된 결과를 반환한다.
+ * 처리와 결과 기록이 함께 커밋되거나 함께 롤백되므로, 처리되었는데 결과를 알 수 없는 키는 남지 않는다.
+ * 단, optimistic/buffered 적립 모드는 적립을 별도 트랜잭션이나 메모리에 반영하므로 결과 기록과 함께 롤백되지 않는다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    // Idempotency-Key 헤더의 최대 길이
+    public static final int KEY_MAX_LENGTH = 200;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyWindow idempotencyWindow;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionMs;
+
+    @Autowired
+    public IdempotencyService(
+            final IdempotencyRecordRepository idempotencyRecordRepository,
+            final ObjectMapper objectMapper,
+            final PlatformTransactionManager transactionManager,
+            @Value("${membership.idempotency.window-ms:600000}") final long windowMs,
+            @Value("${membership.idempotency.bucket-count:10}") final int bucketCount,
+            @Value("${membership.idempotency.max-entries:100000}") final int maxEntries,
+            @Value("${membership.idempotency.retention-ms:86400000}") final long retentionMs) {
+
+        this(idempotencyRecordRepository, objectMapper, new IdempotencyWindow(windowMs, bucketCount, maxEntries), transactionManager, retentionMs);
+    }
+
+    IdempotencyService(
+            final IdempotencyRecordRepository idempotencyRecordRepository,
+            final ObjectMapper objectMapper,
+            final IdempotencyWindow idempotencyWindow,
+            final PlatformTransactionManager transactionManager,
+            final long retentionMs) {
+
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.idempotencyWindow = idempotencyWindow;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionMs = retentionMs;
+    }
+
+    // operation 은 userId 와 요청 대상을 포함하여 다른 사용자나 다른 요청의 같은 키와 구분
+    public <T> ResponseEntity<T> execute(final String operation, final String idempotencyKey,
+                                         final Class<T> bodyType, final Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > KEY_MAX_LENGTH) {
+            throw new MembershipException(MembershipErrorResult.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        final String recordKey = recordKey(operation, idempotencyKey);
+        final long now = System.currentTimeMillis();
+        final IdempotentResponse cachedResponse = idempotencyWindow.putIfAbsent(recordKey, IdempotentResponse.IN_PROGRESS, now);
+        if (cachedResponse != null) {
+            return replay(cachedResponse, bodyType);
+        }
+
+        final AtomicReference<ResponseEntity<T>> result = new AtomicReference<>();
+        final IdempotentResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                result.set(action.get());
+                final IdempotentResponse completedResponse = IdempotentResponse.builder()
+                        .statusCode(result.get().getStatusCodeValue())
+                        .responseBody(serialize(result.get().getBody()))
+                        .build();
+                idempotencyRecordRepository.insert(recordKey, completedResponse.getStatusCode(), completedResponse.getResponseBody());
+                return completedResponse;
+            });
+        } catch (final DuplicateKeyException e) {
+            // 다른 인스턴스가 같은 키를 먼저 커밋하여 이 요청의 처리는 롤백됨
+            idempotencyWindow.remove(recordKey, now);
+            return replayStored(recordKey, bodyType, now);
+        } catch (final MembershipException e) {
+            // 윈도우가 지난 뒤의 재시도는 처리 결과가 달라질 수 있으므로(이미 등록됨 등) 저장된 결과가 있으면 그 결과를 반환
+            idempotencyWindow.remove(recordKey, now);
+            final Optional<IdempotencyRecord> optionalRecord = idempotencyRecordRepository.findById(recordKey);
+            if (optionalRecord.isPresent()) {
+                return replayStored(recordKey, optionalRecord.get(), bodyType, now);
+            }
+            throw e;
+        } catch (final RuntimeException e) {
+            // 실패한 요청은 롤백되어 기록되지 않으므로 같은 키로 다시 시도할 수 있음
+            idempotencyWindow.remove(recordKey, now);
+            throw e;
+        }
+
+        idempotencyWindow.put(recordKey, response, System.currentTimeMillis());
+        return result.get();
+    }
+
+    // 먼저 커밋된 요청의 결과를 반환, 그 사이 롤백되어 결과가 없으면 처리중으로 보고 충돌
+    private <T> ResponseEntity<T> replayStored(final String recordKey, final Class<T> bodyType, final long now) {
+        final Optional<IdempotencyRecord> optionalRecord = idempotencyRecordRepository.findById(recordKey);
+        if (!optionalRecord.isPresent()) {
+            throw new MembershipException(MembershipErrorResult.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        return replayStored(recordKey, optionalRecord.get(), bodyType, now);
+    }
+
+    private <T> ResponseEntity<T> replayStored(final String recordKey, final IdempotencyRecord record, final Class<T> bodyType, final long now) {
+        final IdempotentResponse storedResponse = IdempotentResponse.builder()
+                .statusCode(record.getStatusCode())
+                .responseBody(record.getResponseBody())
+                .build();
+        idempotencyWindow.put(recordKey, storedResponse, now);
+        return replay(storedResponse, bodyType);
+    }
+
+    @Scheduled(fixedDelayString = "${membership.idempotency.cleanup-interval-ms:3600000}")
+    public void deleteExpiredRecords() {
+        final int deletedCount = idempotencyRecordRepository.deleteAllCreatedBefore(
+                LocalDateTime.now().minusNanos(retentionMs * 1_000_000L));
+        log.debug("Expired idempotency records deleted. count: {}", deletedCount);
+    }
+
+    private <T> ResponseEntity<T> replay(final IdempotentResponse response, final Class<T> bodyType) {
+        if (response.isInProgress()) {
+            throw new MembershipException(MembershipErrorResult.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        return ResponseEntity.status(response.getStatusCode())
+                .body(deserialize(response.getResponseBody(), bodyType));
+    }
+
+    // 사용자 id 와 요청 대상의 길이와 관계없이 영속 테이블의 키 길이를 고정
+    static String recordKey(final String operation, final String idempotencyKey) {
+        final byte[] digest = SHA_256.get().digest((operation + ":" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        final StringBuilder builder = new StringBuilder(digest.length * 2);
+        for (final byte b : digest) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private String serialize(final Object body) {
+        if (body == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T deserialize(final String responseBody, final Class<T> bodyType) {
+        if (responseBody == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(responseBody, bodyType);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.mang.atdd.membership.app.idempotency.service;
+
+import com.mang.atdd.membership.app.idempotency.dto.IdempotentResponse;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 시간 단위 버킷을 원형으로 돌려 쓰는 Idempotency-Key 저장소.
+ * 버킷이 다음 주기에 재사용될 때 통째로 버려지므로 만료를 위한 별도 정리 작업이 필요 없다.
+ * 버킷마다 최대 건수를 두어 메모리 사용량을 제한하고, 넘친 키는 영속 테이블에서만 확인한다.
+ */
+public class IdempotencyWindow {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int maxEntriesPerBucket;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public IdempotencyWindow(final long windowMillis, final int bucketCount, final int maxEntries) {
+        this.bucketMillis = Math.max(1L, windowMillis / bucketCount);
+        this.bucketCount = bucketCount;
+        this.maxEntriesPerBucket = Math.max(1, maxEntries / bucketCount);
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public IdempotentResponse get(final String key, final long now) {
+        final long currentEpoch = now / bucketMillis;
+        for (long epoch = currentEpoch; epoch > currentEpoch - bucketCount; epoch--) {
+            final Bucket bucket = buckets.get(index(epoch));
+            if (bucket == null || bucket.epoch != epoch) {
+                continue;
+            }
+
+            final IdempotentResponse response = bucket.entries.get(key);
+            if (response != null) {
+                return response;
+            }
+        }
+
+        return null;
+    }
+
+    // 이미 저장된 값이 있으면 그 값을 반환
+    public IdempotentResponse putIfAbsent(final String key, final IdempotentResponse response, final long now) {
+        final IdempotentResponse existing = get(key, now);
+        if (existing != null) {
+            return existing;
+        }
+
+        final Bucket bucket = currentBucket(now);
+        if (bucket.entries.size() >= maxEntriesPerBucket) {
+            return null;
+        }
+
+        return bucket.entries.putIfAbsent(key, response);
+    }
+
+    public void put(final String key, final IdempotentResponse response, final long now) {
+        final Bucket bucket = currentBucket(now);
+        // 처리 중 표시가 이전 버킷에 있으면 완료 결과를 현재 버킷에 넣어 더 오래 유지
+        remove(key, now);
+        if (bucket.entries.size() < maxEntriesPerBucket) {
+            bucket.entries.put(key, response);
+        }
+    }
+
+    public void remove(final String key, final long now) {
+        final long currentEpoch = now / bucketMillis;
+        for (long epoch = currentEpoch; epoch > currentEpoch - bucketCount; epoch--) {
+            final Bucket bucket = buckets.get(index(epoch));
+            if (bucket != null && bucket.epoch == epoch) {
+                bucket.entries.remove(key);
+            }
+        }
+    }
+
+    private Bucket currentBucket(final long now) {
+        final long epoch = now / bucketMillis;
+        final int index = index(epoch);
+        while (true) {
+            final Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+
+            final Bucket newBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private int index(final long epoch) {
+        return (int) Math.floorMod(epoch, (long) bucketCount);
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final ConcurrentHashMap<String, IdempotentResponse> entries = new ConcurrentHashMap<>();
+
+        private Bucket(final long epoch) {
+            this.epoch = epoch;
+        }
+
+    }
+
+}
@@ -7,5 +7,17 @@ import lombok.NoArgsConstructor;
 public final class MembershipConstants {
 
     public final static String USER_ID_HEADER = "X-USER-ID";
+    public final static String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public final static int BULK_ADD_MAX_SIZE = 1000;
+    public final static int PAGE_MAX_LIMIT = 100;
+    public final static String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    public final static String MEMBERSHIP_CACHE = "membership";
+    public final static String MEMBERSHIP_LIST_CACHE = "membershipList";
+    public final static String MEMBERSHIP_VERSION_CACHE = "membershipVersion";
+    public final static String MEMBERSHIP_LIST_VERSION_CACHE = "membershipListVersion";
+    public final static String MEMBERSHIP_TYPE_CACHE = "membershipType";
+
+    public final static String MEMBERSHIP_API_EXECUTOR = "membershipApiExecutor";
 
 }
@@ -0,0 +1,116 @@
+package com.mang.atdd.membership.app.membership.controller;
+
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddRequest;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipPageResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipRequest;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.IDEMPOTENCY_KEY_HEADER;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_API_EXECUTOR;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAccumulateMarker;
+import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAddMarker;
+
+// MembershipController 와 같은 API 를 제한된 실행기에서 처리하여 Tomcat 스레드를 바로 반환
+// 조회 API 는 조건부 조회(ETag)가 요청 스레드의 WebRequest 에 의존하므로 실행기에서는 MembershipService 를 직접 호출
+@RestController
+@Profile("!reactive")
+public class MembershipAsyncController {
+
+    private final MembershipController membershipController;
+    private final MembershipService membershipService;
+    private final Executor membershipApiExecutor;
+
+    public MembershipAsyncController(
+            final MembershipController membershipController,
+            final MembershipService membershipService,
+            @Qualifier(MEMBERSHIP_API_EXECUTOR) final Executor membershipApiExecutor) {
+
+        this.membershipController = membershipController;
+        this.membershipService = membershipService;
+        this.membershipApiExecutor = membershipApiExecutor;
+    }
+
+    @PostMapping("/api/v1/async/memberships")
+    public CompletableFuture<ResponseEntity<MembershipAddResponse>> addMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+            @RequestBody @Validated(MembershipAddMarker.class) final MembershipRequest membershipRequest) {
+
+        return async(() -> membershipController.addMembership(userId, idempotencyKey, membershipRequest));
+    }
+
+    @PostMapping("/api/v1/async/memberships/bulk")
+    public CompletableFuture<ResponseEntity<List<MembershipAddResponse>>> addMemberships(
+            @RequestBody @Valid final MembershipBulkAddRequest membershipBulkAddRequest) {
+
+        return async(() -> membershipController.addMemberships(membershipBulkAddRequest));
+    }
+
+    @GetMapping("/api/v1/async/memberships")
+    public CompletableFuture<ResponseEntity<List<MembershipDetailResponse>>> getMembershipList(
+            @RequestHeader(USER_ID_HEADER) final String userId) {
+
+        return async(() -> ResponseEntity.ok(membershipService.getMembershipList(userId)));
+    }
+
+    @GetMapping(value = "/api/v1/async/memberships", params = "limit")
+    public CompletableFuture<ResponseEntity<MembershipPageResponse>> getMembershipPage(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestParam final int limit,
+            @RequestParam(required = false) final Long after) {
+
+        return async(() -> membershipController.getMembershipPage(userId, limit, after));
+    }
+
+    @GetMapping("/api/v1/async/memberships/{id}")
+    public CompletableFuture<ResponseEntity<MembershipDetailResponse>> getMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @PathVariable final Long id) {
+
+        return async(() -> ResponseEntity.ok(membershipService.getMembership(id, userId)));
+    }
+
+    @DeleteMapping("/api/v1/async/memberships/{id}")
+    public CompletableFuture<ResponseEntity<Void>> removeMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @PathVariable final Long id) {
+
+        return async(() -> membershipController.removeMembership(userId, id));
+    }
+
+    @PostMapping("/api/v1/async/memberships/{id}/accumulate")
+    public CompletableFuture<ResponseEntity<Void>> accumulateMembershipPoint(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+            @PathVariable final Long id,
+            @RequestBody @Validated(MembershipAccumulateMarker.class) final MembershipRequest membershipRequest) {
+
+        return async(() -> membershipController.accumulateMembershipPoint(userId, idempotencyKey, id, membershipRequest));
+    }
+
+    private <T> CompletableFuture<T> async(final Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, membershipApiExecutor);
+        } catch (final RejectedExecutionException e) {
+            throw new MembershipException(MembershipErrorResult.SERVER_BUSY);
+        }
+    }
+
+}
@@ -1,54 +1,151 @@
 package com.mang.atdd.membership.app.membership.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mang.atdd.membership.aop.ExecutionTimeChecker;
 import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.idempotency.service.IdempotencyService;
 import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddRequest;
 import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipPageResponse;
 import com.mang.atdd.membership.app.membership.dto.MembershipRequest;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
 import com.mang.atdd.membership.app.membership.service.MembershipService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.APPLICATION_NDJSON_VALUE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.IDEMPOTENCY_KEY_HEADER;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.PAGE_MAX_LIMIT;
 import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
 import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAccumulateMarker;
 import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAddMarker;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 @ExecutionTimeChecker
 public class MembershipController {
 
     private final MembershipService membershipService;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/api/v1/memberships")
     public ResponseEntity<MembershipAddResponse> addMembership(
             @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
             @RequestBody @Validated(MembershipAddMarker.class) final MembershipRequest membershipRequest) {
 
-        final MembershipAddResponse membershipResponse = membershipService.addMembership(userId, membershipRequest.getMembershipType(), membershipRequest.getPoint());
+        return idempotent(idempotencyKey, userId + ":add", MembershipAddResponse.class, () -> {
+            final MembershipAddResponse membershipResponse = membershipService.addMembership(userId, membershipRequest.getMembershipType(), membershipRequest.getPoint());
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(membershipResponse);
+        });
+    }
+
+    @PostMapping("/api/v1/memberships/bulk")
+    public ResponseEntity<List<MembershipAddResponse>> addMemberships(
+            @RequestBody @Valid final MembershipBulkAddRequest membershipBulkAddRequest) {
+
+        final List<MembershipAddResponse> membershipResponses = membershipService.addMemberships(membershipBulkAddRequest.getMemberships());
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(membershipResponse);
+                .body(membershipResponses);
     }
 
     @GetMapping("/api/v1/memberships")
     public ResponseEntity<List<MembershipDetailResponse>> getMembershipList(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            final HttpServletRequest request) {
+
+        final Optional<MembershipVersion> version = membershipService.getMembershipListVersion(userId);
+        if (notModified(version, request)) {
+            return notModifiedResponse(version.get());
+        }
+
+        final List<MembershipDetailResponse> membershipList = membershipService.getMembershipList(userId);
+        return versionedResponse(version.isPresent() ? MembershipVersion.of(membershipList) : null, membershipList);
+    }
+
+    @GetMapping(value = "/api/v1/memberships", params = "limit")
+    public ResponseEntity<MembershipPageResponse> getMembershipPage(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestParam final int limit,
+            @RequestParam(required = false) final Long after) {
+
+        final int pageLimit = Math.max(1, Math.min(limit, PAGE_MAX_LIMIT));
+        return ResponseEntity.ok(membershipService.getMembershipPage(userId, after, pageLimit));
+    }
+
+    @GetMapping(value = "/api/v1/memberships", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMembershipList(
             @RequestHeader(USER_ID_HEADER) final String userId) {
 
-        return ResponseEntity.ok(membershipService.getMembershipList(userId));
+        final StreamingResponseBody responseBody = outputStream ->
+                membershipService.streamMembershipList(userId, v -> writeLine(outputStream, v));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(responseBody);
     }
 
     @GetMapping("/api/v1/memberships/{id}")
     public ResponseEntity<MembershipDetailResponse> getMembership(
             @RequestHeader(USER_ID_HEADER) final String userId,
-            @PathVariable final Long id) {
+            @PathVariable final Long id,
+            final HttpServletRequest request) {
+
+        final Optional<MembershipVersion> version = membershipService.getMembershipVersion(id, userId);
+        if (notModified(version, request)) {
+            return notModifiedResponse(version.get());
+        }
+
+        final MembershipDetailResponse membership = membershipService.getMembership(id, userId);
+        return versionedResponse(version.isPresent() ? MembershipVersion.of(membership) : null, membership);
+    }
+
+    // 버전 정보로 If-None-Match / If-Modified-Since 를 확인, 응답 헤더는 건드리지 않음
+    private boolean notModified(final Optional<MembershipVersion> version, final HttpServletRequest request) {
+        return version.isPresent()
+                && new ServletWebRequest(request).checkNotModified(version.get().getETag(), version.get().getLastModifiedMillis());
+    }
 
-        return ResponseEntity.ok(membershipService.getMembership(id, userId));
+    private <T> ResponseEntity<T> notModifiedResponse(final MembershipVersion version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(version.getETag())
+                .lastModified(version.getLastModifiedMillis())
+                .build();
+    }
+
+    // ETag 와 Last-Modified 는 버전 조회가 아니라 실제로 반환하는 본문에서 계산하여, 캐시된 본문이 버전보다 오래되어도 둘이 어긋나지 않도록 함
+    // 미반영 적립분이 있어 버전 조회를 생략했으면(version 없음) 헤더를 설정하지 않음
+    private <T> ResponseEntity<T> versionedResponse(final MembershipVersion bodyVersion, final T body) {
+        if (bodyVersion == null || bodyVersion.isEmpty()) {
+            return ResponseEntity.ok(body);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(bodyVersion.getETag())
+                .lastModified(bodyVersion.getLastModifiedMillis())
+                .body(body);
     }
 
     @DeleteMapping("/api/v1/memberships/{id}")
@@ -63,11 +160,33 @@ public class MembershipController {
     @PostMapping("/api/v1/memberships/{id}/accumulate")
     public ResponseEntity<Void> accumulateMembershipPoint(
             @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
             @PathVariable final Long id,
             @RequestBody @Validated(MembershipAccumulateMarker.class) final MembershipRequest membershipRequest) {
 
-        membershipService.accumulateMembershipPoint(id, userId, membershipRequest.getPoint());
-        return ResponseEntity.noContent().build();
+        return idempotent(idempotencyKey, userId + ":accumulate:" + id, Void.class, () -> {
+            membershipService.accumulateMembershipPoint(id, userId, membershipRequest.getPoint());
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    // Idempotency-Key 가 없는 요청은 기존과 동일하게 매번 처리
+    private <T> ResponseEntity<T> idempotent(final String idempotencyKey, final String operation,
+                                             final Class<T> bodyType, final Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+
+        return idempotencyService.execute(operation, idempotencyKey, bodyType, action);
+    }
+
+    private void writeLine(final OutputStream outputStream, final MembershipDetailResponse membershipResponse) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(membershipResponse));
+            outputStream.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
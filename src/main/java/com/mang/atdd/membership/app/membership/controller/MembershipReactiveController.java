@@ -0,0 +1,75 @@
+package com.mang.atdd.membership.app.membership.controller;
+
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipRequest;
+import com.mang.atdd.membership.app.membership.service.MembershipReactiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAccumulateMarker;
+import static com.mang.atdd.membership.app.membership.validation.ValidationGroups.MembershipAddMarker;
+
+// reactive 프로파일에서 MembershipController 대신 등록되어 같은 경로를 처리
+@RestController
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MembershipReactiveController {
+
+    private final MembershipReactiveService membershipReactiveService;
+
+    @PostMapping("/api/v1/memberships")
+    public Mono<ResponseEntity<MembershipAddResponse>> addMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @RequestBody @Validated(MembershipAddMarker.class) final MembershipRequest membershipRequest) {
+
+        return membershipReactiveService.addMembership(userId, membershipRequest.getMembershipType(), membershipRequest.getPoint())
+                .map(membershipResponse -> ResponseEntity.status(HttpStatus.CREATED).body(membershipResponse));
+    }
+
+    @GetMapping("/api/v1/memberships")
+    public Mono<ResponseEntity<List<MembershipDetailResponse>>> getMembershipList(
+            @RequestHeader(USER_ID_HEADER) final String userId) {
+
+        return membershipReactiveService.getMembershipList(userId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/api/v1/memberships/{id}")
+    public Mono<ResponseEntity<MembershipDetailResponse>> getMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @PathVariable final Long id) {
+
+        return membershipReactiveService.getMembership(id, userId)
+                .map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/api/v1/memberships/{id}")
+    public Mono<ResponseEntity<Void>> removeMembership(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @PathVariable final Long id) {
+
+        return membershipReactiveService.removeMembership(id, userId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PostMapping("/api/v1/memberships/{id}/accumulate")
+    public Mono<ResponseEntity<Void>> accumulateMembershipPoint(
+            @RequestHeader(USER_ID_HEADER) final String userId,
+            @PathVariable final Long id,
+            @RequestBody @Validated(MembershipAccumulateMarker.class) final MembershipRequest membershipRequest) {
+
+        return membershipReactiveService.accumulateMembershipPoint(id, userId, membershipRequest.getPoint())
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+}
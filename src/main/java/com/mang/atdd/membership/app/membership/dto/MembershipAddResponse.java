@@ -1,15 +1,21 @@
 package com.mang.atdd.membership.app.membership.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.mang.atdd.membership.app.enums.MembershipType;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @Builder
 @RequiredArgsConstructor
+@NoArgsConstructor(force = true)
 public class MembershipAddResponse {
 
+    // Snowflake id 는 2^53 을 넘어 JavaScript 의 Number 로 정확히 표현되지 않으므로 문자열로 응답
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long id;
     private final MembershipType membershipType;
 
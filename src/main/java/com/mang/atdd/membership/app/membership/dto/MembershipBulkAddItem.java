@@ -0,0 +1,30 @@
+package com.mang.atdd.membership.app.membership.dto;
+
+import com.mang.atdd.membership.app.common.shard.ShardKeyed;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+@NoArgsConstructor(force = true)
+public class MembershipBulkAddItem implements ShardKeyed {
+
+    @NotBlank
+    private final String userId;
+
+    @NotNull
+    @Min(0)
+    private final Integer point;
+
+    @NotNull
+    private final MembershipType membershipType;
+
+}
@@ -0,0 +1,26 @@
+package com.mang.atdd.membership.app.membership.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.BULK_ADD_MAX_SIZE;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+@NoArgsConstructor(force = true)
+public class MembershipBulkAddRequest {
+
+    @Valid
+    @NotEmpty
+    @Size(max = BULK_ADD_MAX_SIZE)
+    private final List<MembershipBulkAddItem> memberships;
+
+}
@@ -1,5 +1,8 @@
 package com.mang.atdd.membership.app.membership.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.mang.atdd.membership.app.enums.MembershipType;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +15,17 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class MembershipDetailResponse {
 
+    // Snowflake id 는 2^53 을 넘어 JavaScript 의 Number 로 정확히 표현되지 않으므로 문자열로 응답
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long id;
     private final MembershipType membershipType;
     private final LocalDateTime createdAt;
     private final Integer point;
 
+    // 응답에는 포함하지 않고, 본문과 같은 조회 결과로 ETag / Last-Modified 를 계산하는 데 사용
+    @JsonIgnore
+    private final LocalDateTime updatedAt;
+    @JsonIgnore
+    private final Long version;
+
 }
@@ -0,0 +1,21 @@
+package com.mang.atdd.membership.app.membership.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+public class MembershipPageResponse {
+
+    private final List<MembershipDetailResponse> memberships;
+    // 마지막 멤버십의 id 이므로 id 와 같이 문자열로 응답
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long nextCursor;
+
+}
@@ -0,0 +1,54 @@
+package com.mang.atdd.membership.app.membership.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+
+// 조건부 조회(ETag / Last-Modified)에 사용하는 멤버십 버전 정보, 엔티티를 읽지 않고 집계 쿼리로만 조회
+@Getter
+@RequiredArgsConstructor
+public class MembershipVersion {
+
+    private final Long count;
+    private final LocalDateTime lastModifiedAt;
+    private final Long versionSum;
+
+    // 응답 본문에서 버전 정보를 계산, 버전 조회와 같은 값이 되므로 이후 조건부 조회에서 비교할 수 있음
+    public static MembershipVersion of(final MembershipDetailResponse membership) {
+        return of(Collections.singletonList(membership));
+    }
+
+    public static MembershipVersion of(final List<MembershipDetailResponse> memberships) {
+        LocalDateTime lastModifiedAt = null;
+        long versionSum = 0;
+        for (final MembershipDetailResponse membership : memberships) {
+            if (membership.getUpdatedAt() == null || membership.getVersion() == null) {
+                return null;
+            }
+            if (lastModifiedAt == null || membership.getUpdatedAt().isAfter(lastModifiedAt)) {
+                lastModifiedAt = membership.getUpdatedAt();
+            }
+            versionSum += membership.getVersion();
+        }
+
+        return new MembershipVersion((long) memberships.size(), lastModifiedAt, versionSum);
+    }
+
+    public boolean isEmpty() {
+        return count == null || count == 0;
+    }
+
+    // 삭제는 updatedAt 의 최대값을 바꾸지 않으므로 건수와 version 합계를 함께 사용, 응답 형식(JSON, CBOR 등)에 무관하므로 weak ETag
+    public String getETag() {
+        return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(getLastModifiedMillis()) + "-" + Long.toHexString(versionSum == null ? 0 : versionSum) + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModifiedAt == null ? -1 : lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.mang.atdd.membership.app.membership.entity;
 
+import com.mang.atdd.membership.app.common.id.SnowflakeIdentifierGenerator;
 import com.mang.atdd.membership.app.enums.MembershipType;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -11,15 +13,22 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = Membership.USER_ID_MEMBERSHIP_TYPE_UNIQUE, columnNames = {"user_id", "membership_type"})
+}, indexes = {
+        @Index(name = "idx_membership_user_id_id", columnList = "user_id, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Membership {
 
+    public static final String USER_ID_MEMBERSHIP_TYPE_UNIQUE = "uk_membership_user_id_membership_type";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdentifierGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdentifierGenerator.NAME, strategy = "com.mang.atdd.membership.app.common.id.SnowflakeIdentifierGenerator")
     @Column(nullable = false)
     private Long id;
 
@@ -42,4 +51,7 @@ public class Membership {
     @Column(length = 20)
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
 }
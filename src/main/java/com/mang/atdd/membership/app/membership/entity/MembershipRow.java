@@ -0,0 +1,35 @@
+package com.mang.atdd.membership.app.membership.entity;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Membership 과 같은 membership 테이블을 R2DBC 로 다루기 위한 매핑
+@Table("membership")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipRow {
+
+    @Id
+    private Long id;
+
+    private MembershipType membershipType;
+
+    private String userId;
+
+    private Integer point;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+}
@@ -0,0 +1,93 @@
+package com.mang.atdd.membership.app.membership.repository;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.entity.MembershipRow;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MembershipReactiveRepository {
+
+    private static final String DETAIL_SQL = "SELECT id, membership_type, created_at, point FROM membership ";
+
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    public Mono<MembershipRow> insert(final MembershipRow membershipRow) {
+        return r2dbcEntityTemplate.insert(membershipRow);
+    }
+
+    public Flux<MembershipDetailResponse> findAllDetailByUserId(final String userId) {
+        return databaseClient().sql(DETAIL_SQL + "WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map((row, metadata) -> toDetailResponse(row))
+                .all();
+    }
+
+    public Mono<MembershipDetailResponse> findDetailByIdAndUserId(final Long id, final String userId) {
+        return databaseClient().sql(DETAIL_SQL + "WHERE id = :id AND user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .map((row, metadata) -> toDetailResponse(row))
+                .one();
+    }
+
+    public Mono<MembershipType> findMembershipTypeByIdAndUserId(final Long id, final String userId) {
+        return databaseClient().sql("SELECT membership_type FROM membership WHERE id = :id AND user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .map((row, metadata) -> MembershipType.valueOf(row.get("membership_type", String.class)))
+                .one();
+    }
+
+    public Mono<Boolean> existsById(final Long id) {
+        return databaseClient().sql("SELECT id FROM membership WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .first()
+                .hasElement();
+    }
+
+    public Mono<Integer> accumulatePoint(final Long id, final String userId, final int amount, final LocalDateTime updatedAt) {
+        return databaseClient().sql("UPDATE membership SET point = point + :amount, updated_at = :updatedAt, version = version + 1 " +
+                        "WHERE id = :id AND user_id = :userId")
+                .bind("amount", amount)
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> deleteByIdAndUserId(final Long id, final String userId) {
+        return databaseClient().sql("DELETE FROM membership WHERE id = :id AND user_id = :userId")
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private DatabaseClient databaseClient() {
+        return r2dbcEntityTemplate.getDatabaseClient();
+    }
+
+    private MembershipDetailResponse toDetailResponse(final Row row) {
+        return MembershipDetailResponse.builder()
+                .id(row.get("id", Long.class))
+                .membershipType(MembershipType.valueOf(row.get("membership_type", String.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .point(row.get("point", Integer.class))
+                .build();
+    }
+
+}
@@ -1,15 +1,82 @@
 package com.mang.atdd.membership.app.membership.repository;
 
 import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
 import com.mang.atdd.membership.app.membership.entity.Membership;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MembershipRepository extends JpaRepository<Membership, Long> {
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_TYPE_CACHE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface MembershipRepository extends JpaRepository<Membership, Long>, MembershipRepositoryCustom {
+
+    String DETAIL_PROJECTION = "SELECT new com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse(" +
+            "m.id, m.membershipType, m.createdAt, m.point, m.updatedAt, m.version) FROM Membership m ";
+
+    String VERSION_PROJECTION = "SELECT new com.mang.atdd.membership.app.membership.dto.MembershipVersion(" +
+            "COUNT(m), MAX(m.updatedAt), SUM(m.version)) FROM Membership m ";
 
     Membership findByUserIdAndMembershipType(final String userId, final MembershipType membershipType);
 
     List<Membership> findAllByUserId(final String userId);
 
+    Optional<Membership> findByIdAndUserId(final Long id, final String userId);
+
+    List<Membership> findAllByUserIdIn(final Collection<String> userIds);
+
+    @Query(DETAIL_PROJECTION + "WHERE m.userId = :userId")
+    List<MembershipDetailResponse> findAllDetailByUserId(@Param("userId") final String userId);
+
+    @Query(DETAIL_PROJECTION + "WHERE m.id = :id AND m.userId = :userId")
+    Optional<MembershipDetailResponse> findDetailByIdAndUserId(@Param("id") final Long id, @Param("userId") final String userId);
+
+    @Query(VERSION_PROJECTION + "WHERE m.userId = :userId")
+    MembershipVersion findListVersionByUserId(@Param("userId") final String userId);
+
+    @Query(VERSION_PROJECTION + "WHERE m.id = :id AND m.userId = :userId")
+    MembershipVersion findVersionByIdAndUserId(@Param("id") final Long id, @Param("userId") final String userId);
+
+    // 멤버십 타입은 바뀌지 않으므로 소유자별로 캐시하여 적립 시 UPDATE 전의 조회를 생략 (삭제 시 무효화, 없는 결과는 캐시하지 않음)
+    @Cacheable(cacheNames = MEMBERSHIP_TYPE_CACHE, key = "#p0 + ':' + #p1", unless = "#result == null")
+    @Query("SELECT m.membershipType FROM Membership m WHERE m.id = :id AND m.userId = :userId")
+    Optional<MembershipType> findMembershipTypeByIdAndUserId(@Param("id") final Long id, @Param("userId") final String userId);
+
+    @Query(DETAIL_PROJECTION + "WHERE m.userId = :userId AND m.id > :after ORDER BY m.id")
+    List<MembershipDetailResponse> findDetailPageByUserId(@Param("userId") final String userId,
+                                                          @Param("after") final Long after,
+                                                          final Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(DETAIL_PROJECTION + "WHERE m.userId = :userId ORDER BY m.id")
+    Stream<MembershipDetailResponse> streamAllDetailByUserId(@Param("userId") final String userId);
+
+    boolean existsByIdAndUserId(final Long id, final String userId);
+
+    // 본인 소유일 때만 삭제, 엔티티를 읽지 않고 한 번의 DELETE 로 처리하며 삭제된 건수를 반환
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Membership m WHERE m.id = :id AND m.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") final Long id, @Param("userId") final String userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Membership m SET m.point = m.point + :amount, m.updatedAt = :updatedAt, m.version = m.version + 1 " +
+            "WHERE m.id = :id AND m.userId = :userId")
+    int accumulatePoint(@Param("id") final Long id,
+                        @Param("userId") final String userId,
+                        @Param("amount") final int amount,
+                        @Param("updatedAt") final LocalDateTime updatedAt);
+
 }
@@ -0,0 +1,18 @@
+package com.mang.atdd.membership.app.membership.repository;
+
+import com.mang.atdd.membership.app.membership.entity.Membership;
+
+import java.util.List;
+import java.util.Map;
+
+public interface MembershipRepositoryCustom {
+
+    void accumulatePoints(final Map<Long, Long> pointDeltas);
+
+    void insertAll(final List<Membership> memberships);
+
+    // 샤딩을 사용하면 현재 샤드에 없을 때 다른 샤드도 확인 (소유자가 아님과 존재하지 않음을 구분하기 위한 에러 경로용)
+    // 다른 사용자의 id 나 없는 id 로 요청하면 샤드 수만큼 조회하므로 정상 경로에서는 호출하지 않아야 함
+    boolean existsByIdInAnyShard(final Long id);
+
+}
@@ -0,0 +1,90 @@
+package com.mang.atdd.membership.app.membership.repository;
+
+import com.mang.atdd.membership.app.common.shard.ShardContext;
+import com.mang.atdd.membership.app.common.shard.ShardRoutingDataSource;
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class MembershipRepositoryImpl implements MembershipRepositoryCustom {
+
+    private static final String ACCUMULATE_POINT_SQL =
+            "UPDATE membership SET point = point + ?, updated_at = ?, version = version + 1 WHERE id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO membership (id, membership_type, user_id, point, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM membership WHERE id = ?";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    // membership.datasource.sharding.enabled=false 이면 없음
+    private final ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource;
+    // 샤드 이름별 JdbcTemplate, 샤드 구성은 기동 후 바뀌지 않으므로 처음 사용할 때 한 번만 생성
+    private final Map<String, JdbcTemplate> shardJdbcTemplates = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public void accumulatePoints(final Map<Long, Long> pointDeltas) {
+        final Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> batchArgs = new ArrayList<>(pointDeltas.size());
+        pointDeltas.forEach((id, delta) -> batchArgs.add(new Object[]{delta, updatedAt, id}));
+
+        jdbcTemplate.batchUpdate(ACCUMULATE_POINT_SQL, batchArgs);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(final List<Membership> memberships) {
+        final Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, memberships, INSERT_BATCH_SIZE, (ps, membership) -> {
+            ps.setLong(1, membership.getId());
+            ps.setString(2, membership.getMembershipType().name());
+            ps.setString(3, membership.getUserId());
+            ps.setInt(4, membership.getPoint());
+            ps.setTimestamp(5, createdAt);
+            ps.setTimestamp(6, createdAt);
+        });
+    }
+
+    @Override
+    public boolean existsByIdInAnyShard(final Long id) {
+        if (exists(jdbcTemplate, id)) {
+            return true;
+        }
+
+        final ShardRoutingDataSource shards = shardRoutingDataSource.getIfAvailable();
+        if (shards == null) {
+            return false;
+        }
+
+        // 현재 샤드는 위에서 확인했으므로 나머지 샤드만 각 샤드의 커넥션으로 확인
+        final String currentShard = shards.resolveShard(ShardContext.currentShard());
+        for (final String shard : shards.getShardNames()) {
+            if (!shard.equals(currentShard) && exists(shardJdbcTemplate(shards, shard), id)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private JdbcTemplate shardJdbcTemplate(final ShardRoutingDataSource shards, final String shard) {
+        return shardJdbcTemplates.computeIfAbsent(shard, key -> new JdbcTemplate(shards.getShard(key)));
+    }
+
+    private boolean exists(final JdbcTemplate template, final Long id) {
+        final Integer count = template.queryForObject(EXISTS_SQL, Integer.class, id);
+        return count != null && count > 0;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.mang.atdd.membership.app.membership.entity.Membership;
+
+import java.util.Locale;
+
+// (user_id, membership_type) 유니크 제약 위반만 중복 등록으로 판단하고, 그 외 무결성 위반(NOT NULL, 기본 키 등)은 호출한 쪽에서 그대로 전달
+final class MembershipConstraintViolations {
+
+    private MembershipConstraintViolations() {
+    }
+
+    // 드라이버마다 제약 이름의 대소문자와 위치가 다르므로(H2 는 대문자 인덱스 이름, MariaDB 는 key 이름) 원인까지 메시지를 확인
+    static boolean isDuplicateMembership(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            final String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(Membership.USER_ID_MEMBERSHIP_TYPE_UNIQUE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
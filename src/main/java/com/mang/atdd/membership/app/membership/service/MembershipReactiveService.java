@@ -0,0 +1,86 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.mang.atdd.membership.app.common.id.SnowflakeIdGenerator;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.entity.MembershipRow;
+import com.mang.atdd.membership.app.membership.repository.MembershipReactiveRepository;
+import com.mang.atdd.membership.app.point.service.PointService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * MembershipService 의 등록/목록/상세/삭제/적립을 R2DBC 로 처리한다.
+ * 적립은 accumulate-mode 와 관계없이 단일 UPDATE 문으로 반영하며, 서블릿 경로의 캐시는 거치지 않는다.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MembershipReactiveService {
+
+    private final PointService pointService;
+    private final MembershipReactiveRepository membershipReactiveRepository;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public Mono<MembershipAddResponse> addMembership(final String userId, final MembershipType membershipType, final Integer point) {
+        final LocalDateTime now = LocalDateTime.now();
+        final MembershipRow membershipRow = MembershipRow.builder()
+                .id(idGenerator.nextId())
+                .userId(userId)
+                .membershipType(membershipType)
+                .point(point)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        return membershipReactiveRepository.insert(membershipRow)
+                .map(savedMembership -> MembershipAddResponse.builder()
+                        .id(savedMembership.getId())
+                        .membershipType(savedMembership.getMembershipType())
+                        .build())
+                .onErrorMap(e -> e instanceof DataIntegrityViolationException && MembershipConstraintViolations.isDuplicateMembership(e),
+                        e -> new MembershipException(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER));
+    }
+
+    public Flux<MembershipDetailResponse> getMembershipList(final String userId) {
+        return membershipReactiveRepository.findAllDetailByUserId(userId);
+    }
+
+    public Mono<MembershipDetailResponse> getMembership(final Long membershipId, final String userId) {
+        return membershipReactiveRepository.findDetailByIdAndUserId(membershipId, userId)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrNotOwner(membershipId)));
+    }
+
+    public Mono<Void> removeMembership(final Long membershipId, final String userId) {
+        return membershipReactiveRepository.deleteByIdAndUserId(membershipId, userId)
+                .filter(deletedCount -> deletedCount == 0)
+                .flatMap(deletedCount -> notFoundOrNotOwner(membershipId))
+                .then();
+    }
+
+    public Mono<Void> accumulateMembershipPoint(final Long membershipId, final String userId, final int amount) {
+        return membershipReactiveRepository.findMembershipTypeByIdAndUserId(membershipId, userId)
+                .switchIfEmpty(Mono.defer(() -> notFoundOrNotOwner(membershipId)))
+                .flatMap(membershipType -> membershipReactiveRepository.accumulatePoint(
+                        membershipId, userId, pointService.calculateAmount(membershipType, amount), LocalDateTime.now()))
+                .then();
+    }
+
+    // 조회/갱신 결과가 없을 때만 존재 여부를 다시 확인하여 에러를 구분
+    private <T> Mono<T> notFoundOrNotOwner(final Long membershipId) {
+        return membershipReactiveRepository.existsById(membershipId)
+                .flatMap(exists -> Mono.error(new MembershipException(exists
+                        ? MembershipErrorResult.NOT_MEMBERSHIP_OWNER
+                        : MembershipErrorResult.MEMBERSHIP_NOT_FOUND)));
+    }
+
+}
@@ -1,43 +1,88 @@
 package com.mang.atdd.membership.app.membership.service;
 
+import com.mang.atdd.membership.aop.ReadYourWrites;
+import com.mang.atdd.membership.aop.Sharded;
+import com.mang.atdd.membership.aop.SingleFlight;
+import com.mang.atdd.membership.app.common.id.SnowflakeIdGenerator;
 import com.mang.atdd.membership.app.enums.MembershipType;
 import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddItem;
 import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipPageResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
 import com.mang.atdd.membership.app.membership.entity.Membership;
 import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.app.point.accumulator.PointAccumulator;
 import com.mang.atdd.membership.app.point.service.PointService;
 import com.mang.atdd.membership.exception.MembershipErrorResult;
 import com.mang.atdd.membership.exception.MembershipException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_VERSION_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_TYPE_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_VERSION_CACHE;
 
 @Service
 @RequiredArgsConstructor
+@ReadYourWrites
+@Sharded
 @Transactional(readOnly = true)
 public class MembershipService {
 
-    private final PointService ratePointService;
+    private final PointService pointService;
     private final MembershipRepository membershipRepository;
+    private final PointAccumulator pointAccumulator;
+    private final SnowflakeIdGenerator idGenerator;
+    private final OutboxService outboxService;
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_VERSION_CACHE, key = "#userId")
+    })
     public MembershipAddResponse addMembership(final String userId, final MembershipType membershipType, final Integer point) {
-        final Membership result = membershipRepository.findByUserIdAndMembershipType(userId, membershipType);
-        if (result != null) {
-            throw new MembershipException(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
-        }
-
         final Membership membership = Membership.builder()
                 .userId(userId)
                 .point(point)
                 .membershipType(membershipType)
                 .build();
 
-        final Membership savedMembership = membershipRepository.save(membership);
+        // 중복 여부는 (user_id, membership_type) 유니크 제약으로 판단
+        final Membership savedMembership;
+        try {
+            savedMembership = membershipRepository.saveAndFlush(membership);
+        } catch (final DataIntegrityViolationException e) {
+            if (MembershipConstraintViolations.isDuplicateMembership(e)) {
+                throw new MembershipException(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
+            }
+            throw e;
+        }
+        outboxService.membershipAdded(savedMembership);
 
         return MembershipAddResponse.builder()
                 .id(savedMembership.getId())
@@ -45,56 +90,206 @@ public class MembershipService {
                 .build();
     }
 
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_VERSION_CACHE, allEntries = true)
+    })
+    public List<MembershipAddResponse> addMemberships(final List<MembershipBulkAddItem> items) {
+        final Set<String> userIds = items.stream()
+                .map(MembershipBulkAddItem::getUserId)
+                .collect(Collectors.toSet());
+
+        // 중복 검사는 사용자 목록 단위의 한 번의 조회로 처리
+        final Set<Map.Entry<String, MembershipType>> registeredKeys = membershipRepository.findAllByUserIdIn(userIds).stream()
+                .map(v -> membershipKey(v.getUserId(), v.getMembershipType()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // id 를 미리 생성하므로 등록 후 id 를 알기 위한 재조회가 필요 없음
+        final List<Membership> newMemberships = new ArrayList<>();
+        final Long[] savedIds = new Long[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            final MembershipBulkAddItem item = items.get(i);
+            if (registeredKeys.add(membershipKey(item.getUserId(), item.getMembershipType()))) {
+                savedIds[i] = idGenerator.nextId();
+                newMemberships.add(Membership.builder()
+                        .id(savedIds[i])
+                        .userId(item.getUserId())
+                        .point(item.getPoint())
+                        .membershipType(item.getMembershipType())
+                        .build());
+            }
+        }
+
+        if (!newMemberships.isEmpty()) {
+            try {
+                membershipRepository.insertAll(newMemberships);
+            } catch (final DataIntegrityViolationException e) {
+                // 조회 이후 동시에 등록된 멤버십이 있는 경우
+                if (MembershipConstraintViolations.isDuplicateMembership(e)) {
+                    throw new MembershipException(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
+                }
+                throw e;
+            }
+            outboxService.membershipsAdded(newMemberships);
+        }
+
+        final List<MembershipAddResponse> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            result.add(MembershipAddResponse.builder()
+                    .id(savedIds[i])
+                    .membershipType(items.get(i).getMembershipType())
+                    .build());
+        }
+
+        return result;
+    }
+
+    private Map.Entry<String, MembershipType> membershipKey(final String userId, final MembershipType membershipType) {
+        return new SimpleImmutableEntry<>(userId, membershipType);
+    }
+
+    // 조회 경로는 응답에 필요한 컬럼만 DTO 로 조회하여 엔티티 생성 및 스냅샷 비용을 없앰
+    @SingleFlight
+    @Cacheable(cacheNames = MEMBERSHIP_LIST_CACHE, key = "#userId")
     public List<MembershipDetailResponse> getMembershipList(final String userId) {
-        final List<Membership> membershipList = membershipRepository.findAllByUserId(userId);
+        final List<MembershipDetailResponse> membershipList = membershipRepository.findAllDetailByUserId(userId);
+        final Map<Long, Long> pendingPoints = pointAccumulator.getPendingByUserId(userId);
 
         return membershipList.stream()
-                .map(v -> MembershipDetailResponse.builder()
-                        .id(v.getId())
-                        .membershipType(v.getMembershipType())
-                        .point(v.getPoint())
-                        .createdAt(v.getCreatedAt())
-                        .build())
+                .map(v -> applyPendingPoint(v, pendingPoints))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+
+    public MembershipPageResponse getMembershipPage(final String userId, final Long after, final int limit) {
+        // 다음 페이지 존재 여부를 알기 위해 limit + 1 건을 조회
+        final List<MembershipDetailResponse> membershipList = membershipRepository.findDetailPageByUserId(
+                userId, after == null ? Long.MIN_VALUE : after, PageRequest.of(0, limit + 1));
+
+        final boolean hasNext = membershipList.size() > limit;
+        final Map<Long, Long> pendingPoints = pointAccumulator.getPendingByUserId(userId);
+        final List<MembershipDetailResponse> memberships = membershipList.stream()
+                .limit(limit)
+                .map(v -> applyPendingPoint(v, pendingPoints))
                 .collect(Collectors.toList());
+
+        return MembershipPageResponse.builder()
+                .memberships(memberships)
+                .nextCursor(hasNext ? memberships.get(memberships.size() - 1).getId() : null)
+                .build();
+    }
+
+    public void streamMembershipList(final String userId, final Consumer<MembershipDetailResponse> consumer) {
+        final Map<Long, Long> pendingPoints = pointAccumulator.getPendingByUserId(userId);
+        try (final Stream<MembershipDetailResponse> membershipStream = membershipRepository.streamAllDetailByUserId(userId)) {
+            membershipStream.map(v -> applyPendingPoint(v, pendingPoints))
+                    .forEach(consumer);
+        }
     }
 
+    @SingleFlight
+    @Cacheable(cacheNames = MEMBERSHIP_CACHE, key = "#membershipId + ':' + #userId")
     public MembershipDetailResponse getMembership(final Long membershipId, final String userId) {
-        final Optional<Membership> optionalMembership = membershipRepository.findById(membershipId);
-        final Membership membership = optionalMembership.orElseThrow(() -> new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND));
-        if (!membership.getUserId().equals(userId)) {
+        final Optional<MembershipDetailResponse> optionalMembership = membershipRepository.findDetailByIdAndUserId(membershipId, userId);
+        if (!optionalMembership.isPresent()) {
+            // 조회 결과가 없을 때만 존재 여부를 다시 확인하여 에러를 구분
+            if (!membershipRepository.existsByIdInAnyShard(membershipId)) {
+                throw new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+            }
             throw new MembershipException(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
         }
 
-        return MembershipDetailResponse.builder()
-                .id(membership.getId())
-                .membershipType(membership.getMembershipType())
-                .point(membership.getPoint())
-                .createdAt(membership.getCreatedAt())
-                .build();
+        return applyPendingPoint(optionalMembership.get());
+    }
+
+    // 조건부 조회용 버전 정보, 멤버십이 없거나 미반영 적립분이 있으면 empty 를 반환하여 본문 조회로 처리
+    // 본문과 같은 키로 캐시하고 함께 무효화하여, 캐시된 조회에 DB 왕복이 추가되지 않도록 함 (empty 는 캐시하지 않음)
+    @Cacheable(cacheNames = MEMBERSHIP_LIST_VERSION_CACHE, key = "#userId", unless = "#result == null")
+    public Optional<MembershipVersion> getMembershipListVersion(final String userId) {
+        final MembershipVersion version = membershipRepository.findListVersionByUserId(userId);
+        return conditionalVersion(version, () -> pointAccumulator.hasPendingByUserId(userId));
+    }
+
+    @Cacheable(cacheNames = MEMBERSHIP_VERSION_CACHE, key = "#membershipId + ':' + #userId", unless = "#result == null")
+    public Optional<MembershipVersion> getMembershipVersion(final Long membershipId, final String userId) {
+        final MembershipVersion version = membershipRepository.findVersionByIdAndUserId(membershipId, userId);
+        return conditionalVersion(version, () -> pointAccumulator.hasPending(membershipId));
+    }
+
+    private Optional<MembershipVersion> conditionalVersion(final MembershipVersion version, final BooleanSupplier hasPending) {
+        if (version == null || version.isEmpty() || hasPending.getAsBoolean()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(version);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MEMBERSHIP_CACHE, key = "#membershipId + ':' + #userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_VERSION_CACHE, key = "#membershipId + ':' + #userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_VERSION_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_TYPE_CACHE, key = "#membershipId + ':' + #userId")
+    })
     public void removeMembership(final Long membershipId, final String userId) {
-        final Optional<Membership> optionalMembership = membershipRepository.findById(membershipId);
-        final Membership membership = optionalMembership.orElseThrow(() -> new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND));
-        if (!membership.getUserId().equals(userId)) {
-            throw new MembershipException(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+        // 소유자 조건을 DELETE 에 포함하고, 삭제된 건이 없을 때만 존재 여부를 다시 확인하여 에러를 구분
+        if (membershipRepository.deleteByIdAndUserId(membershipId, userId) == 0) {
+            throw new MembershipException(membershipRepository.existsByIdInAnyShard(membershipId)
+                    ? MembershipErrorResult.NOT_MEMBERSHIP_OWNER
+                    : MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
         }
 
-        membershipRepository.deleteById(membershipId);
+        outboxService.membershipRemoved(membershipId, userId);
     }
 
-    @Transactional
+    // 트랜잭션 범위는 PointAccumulator 구현체가 결정하되, 멱등 키 기록처럼 호출한 쪽의 트랜잭션이 있으면 참여하여 함께 커밋
+    // (낙관적 락 재시도는 구현체가 새 트랜잭션에서 수행)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MEMBERSHIP_CACHE, key = "#membershipId + ':' + #userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_CACHE, key = "#userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_VERSION_CACHE, key = "#membershipId + ':' + #userId"),
+            @CacheEvict(cacheNames = MEMBERSHIP_LIST_VERSION_CACHE, key = "#userId")
+    })
     public void accumulateMembershipPoint(final Long membershipId, final String userId, final int amount) {
-        final Optional<Membership> optionalMembership = membershipRepository.findById(membershipId);
-        final Membership membership = optionalMembership.orElseThrow(() -> new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND));
-        if (!membership.getUserId().equals(userId)) {
-            throw new MembershipException(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+        // 적립률은 멤버십 타입별 정책을 따르므로 소유자 확인과 함께 타입을 조회 (캐시 적중 시 DB 조회 없음, 소유자는 적립 시 다시 확인)
+        final MembershipType membershipType = membershipRepository.findMembershipTypeByIdAndUserId(membershipId, userId)
+                .orElseThrow(() -> new MembershipException(membershipRepository.existsByIdInAnyShard(membershipId)
+                        ? MembershipErrorResult.NOT_MEMBERSHIP_OWNER
+                        : MembershipErrorResult.MEMBERSHIP_NOT_FOUND));
+        final int additionalAmount = pointService.calculateAmount(membershipType, amount);
+
+        pointAccumulator.accumulate(membershipId, userId, additionalAmount);
+    }
+
+    private MembershipDetailResponse applyPendingPoint(final MembershipDetailResponse membership) {
+        return withPoint(membership, pointAccumulator.applyPending(membership.getId(), membership.getPoint()));
+    }
+
+    // 목록 조회는 미리 한 번에 조회한 사용자의 미반영 적립분을 더함
+    private MembershipDetailResponse applyPendingPoint(final MembershipDetailResponse membership, final Map<Long, Long> pendingPoints) {
+        final Long pendingPoint = pendingPoints.get(membership.getId());
+        if (pendingPoint == null || membership.getPoint() == null) {
+            return membership;
         }
 
-        final int additionalAmount = ratePointService.calculateAmount(amount);
+        return withPoint(membership, (int) (membership.getPoint() + pendingPoint));
+    }
+
+    private MembershipDetailResponse withPoint(final MembershipDetailResponse membership, final Integer point) {
+        if (Objects.equals(point, membership.getPoint())) {
+            return membership;
+        }
 
-        membership.setPoint(additionalAmount + membership.getPoint());
+        return MembershipDetailResponse.builder()
+                .id(membership.getId())
+                .membershipType(membership.getMembershipType())
+                .point(point)
+                .createdAt(membership.getCreatedAt())
+                .updatedAt(membership.getUpdatedAt())
+                .version(membership.getVersion())
+                .build();
     }
 
 }
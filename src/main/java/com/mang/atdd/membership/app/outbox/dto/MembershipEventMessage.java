@@ -0,0 +1,45 @@
+package com.mang.atdd.membership.app.outbox.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.mang.atdd.membership.app.enums.MembershipEventType;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.outbox.entity.OutboxEvent;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 같은 이벤트가 두 번 이상 발행될 수 있으므로 소비자는 id 로 중복을 걸러야 함
+@Getter
+@Builder
+@RequiredArgsConstructor
+@NoArgsConstructor(force = true)
+public class MembershipEventMessage {
+
+    // Snowflake id 는 응답과 같이 문자열로 기록
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long id;
+    private final MembershipEventType eventType;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long membershipId;
+    private final String userId;
+    private final MembershipType membershipType;
+    private final Long amount;
+    private final LocalDateTime createdAt;
+
+    public static MembershipEventMessage of(final OutboxEvent outboxEvent) {
+        return MembershipEventMessage.builder()
+                .id(outboxEvent.getId())
+                .eventType(outboxEvent.getEventType())
+                .membershipId(outboxEvent.getMembershipId())
+                .userId(outboxEvent.getUserId())
+                .membershipType(outboxEvent.getMembershipType())
+                .amount(outboxEvent.getAmount())
+                .createdAt(outboxEvent.getCreatedAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.mang.atdd.membership.app.outbox.entity;
+
+import com.mang.atdd.membership.app.common.id.SnowflakeIdentifierGenerator;
+import com.mang.atdd.membership.app.enums.MembershipEventType;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 멤버십 변경과 같은 트랜잭션에서 기록되고, OutboxRelay 가 발행한 뒤 삭제하는 이벤트
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    // 기록 시점 순으로 증가하는 id, 커밋 순서와 다를 수 있어 소비자의 커서로는 쓰지 않음
+    @Id
+    @GeneratedValue(generator = SnowflakeIdentifierGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdentifierGenerator.NAME, strategy = "com.mang.atdd.membership.app.common.id.SnowflakeIdentifierGenerator")
+    @Column(nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, updatable = false)
+    private MembershipEventType eventType;
+
+    @Column(nullable = false, updatable = false)
+    private Long membershipId;
+
+    // buffered 적립 모드는 flush 단위로 합산하므로 userId 가 없음
+    @Column(updatable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
+    private MembershipType membershipType;
+
+    // 등록 시 초기 포인트, 적립 시 적립 포인트
+    @Column(updatable = false)
+    private Long amount;
+
+    @CreationTimestamp
+    @Column(nullable = false, length = 20, updatable = false)
+    private LocalDateTime createdAt;
+
+}
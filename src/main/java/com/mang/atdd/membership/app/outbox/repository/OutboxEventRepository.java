@@ -0,0 +1,13 @@
+package com.mang.atdd.membership.app.outbox.repository;
+
+import com.mang.atdd.membership.app.outbox.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findAllByOrderByIdAsc(final Pageable pageable);
+
+}
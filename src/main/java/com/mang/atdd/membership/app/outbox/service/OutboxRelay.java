@@ -0,0 +1,69 @@
+package com.mang.atdd.membership.app.outbox.service;
+
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+import com.mang.atdd.membership.app.outbox.entity.OutboxEvent;
+import com.mang.atdd.membership.app.outbox.repository.OutboxEventRepository;
+import com.mang.atdd.membership.app.outbox.sink.OutboxSink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 outbox 를 id 순으로 일정 건수씩 읽어 OutboxSink 로 발행하고, sink 가 내구성 있게 기록한 뒤에만 이벤트를 삭제한다.
+ * 늦게 커밋된 이벤트는 id 가 더 작더라도 다음 실행에서 발행되므로, 소비자는 id 가 아니라 sink 의 발행 순서로 이어서 읽어야 한다.
+ * 발행에 실패하면 그 배치부터 다음 실행에서 다시 발행하므로 같은 이벤트가 중복 발행될 수 있다.
+ * 한 인스턴스에서만 실행된다고 가정한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "membership.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final int batchSize;
+
+    public OutboxRelay(final OutboxEventRepository outboxEventRepository,
+                       final OutboxSink outboxSink,
+                       @Value("${membership.outbox.relay.batch-size:500}") final int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${membership.outbox.relay.interval-ms:1000}")
+    public synchronized int relay() {
+        int relayedCount = 0;
+        while (true) {
+            final List<OutboxEvent> events = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                return relayedCount;
+            }
+
+            try {
+                outboxSink.publish(events.stream()
+                        .map(MembershipEventMessage::of)
+                        .collect(Collectors.toList()));
+            } catch (final RuntimeException e) {
+                log.warn("Outbox relay failed. count: {}", events.size(), e);
+                return relayedCount;
+            }
+
+            outboxEventRepository.deleteAllByIdInBatch(events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList()));
+            relayedCount += events.size();
+
+            if (events.size() < batchSize) {
+                return relayedCount;
+            }
+        }
+    }
+
+}
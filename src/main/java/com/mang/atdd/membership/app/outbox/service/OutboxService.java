@@ -0,0 +1,92 @@
+package com.mang.atdd.membership.app.outbox.service;
+
+import com.mang.atdd.membership.app.enums.MembershipEventType;
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import com.mang.atdd.membership.app.outbox.entity.OutboxEvent;
+import com.mang.atdd.membership.app.outbox.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 멤버십 변경과 같은 트랜잭션에서 outbox 이벤트를 기록한다.
+ * id 는 커밋이 아니라 기록 시점에 정해지므로, 동시에 진행된 트랜잭션 사이에서는 id 순서와 커밋 순서가 다를 수 있다.
+ * 같은 멤버십의 변경은 멤버십 행 잠금으로 직렬화되어 나중에 커밋된 이벤트가 나중에 기록된다.
+ * 변경마다 INSERT 가 하나 더 발생하므로 membership.outbox.enabled=true 일 때만 기록한다.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final boolean enabled;
+
+    public OutboxService(final OutboxEventRepository outboxEventRepository,
+                         @Value("${membership.outbox.enabled:false}") final boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.enabled = enabled;
+    }
+
+    public void membershipAdded(final Membership membership) {
+        if (enabled) {
+            outboxEventRepository.save(addedEvent(membership));
+        }
+    }
+
+    public void membershipsAdded(final List<Membership> memberships) {
+        if (enabled) {
+            outboxEventRepository.saveAll(memberships.stream()
+                    .map(this::addedEvent)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    public void membershipRemoved(final Long membershipId, final String userId) {
+        if (enabled) {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(MembershipEventType.MEMBERSHIP_REMOVED)
+                    .membershipId(membershipId)
+                    .userId(userId)
+                    .build());
+        }
+    }
+
+    public void pointAccumulated(final Long membershipId, final String userId, final long amount) {
+        if (enabled) {
+            outboxEventRepository.save(accumulatedEvent(membershipId, userId, amount));
+        }
+    }
+
+    public void pointsAccumulated(final Map<Long, Long> pointDeltas) {
+        if (enabled) {
+            outboxEventRepository.saveAll(pointDeltas.entrySet().stream()
+                    .map(v -> accumulatedEvent(v.getKey(), null, v.getValue()))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private OutboxEvent addedEvent(final Membership membership) {
+        return OutboxEvent.builder()
+                .eventType(MembershipEventType.MEMBERSHIP_ADDED)
+                .membershipId(membership.getId())
+                .userId(membership.getUserId())
+                .membershipType(membership.getMembershipType())
+                .amount(membership.getPoint().longValue())
+                .build();
+    }
+
+    private OutboxEvent accumulatedEvent(final Long membershipId, final String userId, final long amount) {
+        return OutboxEvent.builder()
+                .eventType(MembershipEventType.POINT_ACCUMULATED)
+                .membershipId(membershipId)
+                .userId(userId)
+                .amount(amount)
+                .build();
+    }
+
+}
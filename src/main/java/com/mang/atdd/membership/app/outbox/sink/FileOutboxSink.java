@@ -0,0 +1,63 @@
+package com.mang.atdd.membership.app.outbox.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 이벤트를 한 줄에 하나씩 JSON 으로 덧붙임 (소비자는 파일을 tail 하며 마지막으로 읽은 위치 이후를 이어서 읽고, id 로 중복을 거름)
+// 디스크에 동기화한 뒤 반환하므로 relay 가 outbox 를 삭제한 이벤트는 재시작 후에도 남아 있음
+@Component
+@ConditionalOnProperty(name = "membership.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${membership.outbox.file.path:outbox/membership-events.ndjson}") final String path,
+                          final ObjectMapper objectMapper) {
+        this.path = Paths.get(path);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(final List<MembershipEventMessage> events) {
+        try {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            for (final MembershipEventMessage event : events) {
+                buffer.write(objectMapper.writeValueAsBytes(event));
+                buffer.write(LINE_SEPARATOR);
+            }
+
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (final FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                final ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.mang.atdd.membership.app.outbox.sink;
+
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+
+import java.util.List;
+
+// membership.outbox.sink 로 구현체를 선택하며(기본값 file), 다른 구현체를 쓰려면 값을 custom 으로 두고 빈을 등록
+public interface OutboxSink {
+
+    // 예외 없이 반환하면 모두 발행된 것으로 보고 outbox 에서 삭제하므로, 재시작 후에도 남아 있도록 기록한 뒤에 반환해야 함
+    void publish(final List<MembershipEventMessage> events);
+
+}
@@ -0,0 +1,37 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "membership.point.accumulate-mode", havingValue = "atomic", matchIfMissing = true)
+public class AtomicPointAccumulator implements PointAccumulator {
+
+    private final MembershipRepository membershipRepository;
+    private final OutboxService outboxService;
+
+    @Override
+    @Transactional
+    public void accumulate(final Long membershipId, final String userId, final int amount) {
+        final int updatedCount = membershipRepository.accumulatePoint(membershipId, userId, amount, LocalDateTime.now());
+        if (updatedCount == 0) {
+            // 갱신된 행이 없을 때만 존재 여부를 다시 조회하여 에러를 구분
+            if (!membershipRepository.existsByIdInAnyShard(membershipId)) {
+                throw new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+            }
+            throw new MembershipException(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+        }
+
+        outboxService.pointAccumulated(membershipId, userId, amount);
+    }
+
+}
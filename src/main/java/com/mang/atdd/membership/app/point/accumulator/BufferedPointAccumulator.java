@@ -0,0 +1,200 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "membership.point.accumulate-mode", havingValue = "buffered")
+public class BufferedPointAccumulator implements PointAccumulator {
+
+    private final MembershipRepository membershipRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
+    private final int flushThreshold;
+
+    // 키 단위로 잠기는 ConcurrentHashMap 의 compute 로 갱신하여, 꺼내는 순간 유실되는 적립분이 없도록 함
+    private final ConcurrentHashMap<Long, PendingPoint> pendingPoints = new ConcurrentHashMap<>();
+    // 사용자별 대기중인 멤버십 수, pendingPoints 의 compute 안에서만 갱신하여 항목 추가/제거와 함께 바뀜
+    private final ConcurrentHashMap<String, Integer> pendingMembershipCounts = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public BufferedPointAccumulator(
+            final MembershipRepository membershipRepository,
+            final PlatformTransactionManager transactionManager,
+            final OutboxService outboxService,
+            @Value("${membership.point.buffer.flush-threshold:1000}") final int flushThreshold) {
+
+        this.membershipRepository = membershipRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxService = outboxService;
+        this.flushThreshold = flushThreshold;
+    }
+
+    // 소유자 확인은 MembershipService 에서 이미 수행하므로 DB 조회 없이 버퍼에만 더함
+    // 그 사이 삭제된 멤버십의 적립분은 flush 시 UPDATE 대상이 없어 반영되지 않음
+    @Override
+    public void accumulate(final Long membershipId, final String userId, final int amount) {
+        pendingPoints.compute(membershipId, (key, pending) -> {
+            if (pending == null) {
+                pendingMembershipCounts.merge(userId, 1, Integer::sum);
+                return new PendingPoint(userId, amount, 0);
+            }
+            return pending.add(amount);
+        });
+
+        if (pendingPoints.size() >= flushThreshold && flushLock.tryLock()) {
+            try {
+                flushPendingPoints();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public Integer applyPending(final Long membershipId, final Integer point) {
+        final PendingPoint pendingPoint = pendingPoints.get(membershipId);
+        if (point == null || pendingPoint == null) {
+            return point;
+        }
+
+        return (int) (point + pendingPoint.total());
+    }
+
+    @Override
+    public Map<Long, Long> getPendingByUserId(final String userId) {
+        if (!hasPendingByUserId(userId)) {
+            return Collections.emptyMap();
+        }
+
+        final Map<Long, Long> result = new HashMap<>();
+        pendingPoints.forEach((membershipId, pendingPoint) -> {
+            if (userId.equals(pendingPoint.getUserId())) {
+                result.put(membershipId, pendingPoint.total());
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public boolean hasPending(final Long membershipId) {
+        return pendingPoints.containsKey(membershipId);
+    }
+
+    @Override
+    public boolean hasPendingByUserId(final String userId) {
+        return pendingMembershipCounts.containsKey(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${membership.point.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            flushPendingPoints();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushPendingPoints();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPendingPoints() {
+        final Map<Long, Long> flushingPoints = new HashMap<>();
+        for (final Long membershipId : pendingPoints.keySet()) {
+            pendingPoints.computeIfPresent(membershipId, (key, pending) -> {
+                if (pending.getPending() != 0) {
+                    flushingPoints.put(key, pending.getPending());
+                }
+                return pending.startFlush();
+            });
+        }
+
+        if (flushingPoints.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 적립 이벤트는 userId 없이 flush 단위로 합산된 값으로 기록
+            transactionTemplate.executeWithoutResult(status -> {
+                membershipRepository.accumulatePoints(flushingPoints);
+                outboxService.pointsAccumulated(flushingPoints);
+            });
+        } catch (final RuntimeException e) {
+            // 반영에 실패한 적립분은 다음 flush 에서 다시 시도
+            flushingPoints.forEach((membershipId, amount) ->
+                    pendingPoints.computeIfPresent(membershipId, (key, pending) -> pending.rollbackFlush(amount)));
+            log.warn("Point flush failed. count: {}", flushingPoints.size(), e);
+            return;
+        }
+
+        flushingPoints.forEach((membershipId, amount) ->
+                pendingPoints.computeIfPresent(membershipId, (key, pending) -> {
+                    final PendingPoint result = pending.completeFlush(amount);
+                    if (result == null) {
+                        pendingMembershipCounts.computeIfPresent(pending.getUserId(), (userId, count) -> count == 1 ? null : count - 1);
+                    }
+                    return result;
+                }));
+    }
+
+    // 불변 객체로 교체하여 조회 시 대기분과 반영중인 적립분을 하나의 스냅샷으로 읽음
+    @Getter
+    @RequiredArgsConstructor
+    static final class PendingPoint {
+
+        private final String userId;
+        private final long pending;
+        private final long flushing;
+
+        long total() {
+            return pending + flushing;
+        }
+
+        PendingPoint add(final long amount) {
+            return new PendingPoint(userId, pending + amount, flushing);
+        }
+
+        PendingPoint startFlush() {
+            return new PendingPoint(userId, 0, flushing + pending);
+        }
+
+        PendingPoint rollbackFlush(final long amount) {
+            return new PendingPoint(userId, pending + amount, flushing - amount);
+        }
+
+        PendingPoint completeFlush(final long amount) {
+            final PendingPoint result = new PendingPoint(userId, pending, flushing - amount);
+            return result.pending == 0 && result.flushing == 0 ? null : result;
+        }
+
+    }
+
+}
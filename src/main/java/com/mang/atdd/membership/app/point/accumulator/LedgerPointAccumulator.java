@@ -0,0 +1,59 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.app.point.dto.PendingPointAmount;
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import com.mang.atdd.membership.app.point.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 적립은 원장에 행을 추가하기만 하고, membership.point 반영은 PointLedgerMaterializer 가 비동기로 수행
+// 조회 결과에는 아직 반영되지 않은 원장의 합계를 더함
+// 소유자 확인은 MembershipService 에서 이미 수행하므로 적립은 INSERT 한 번으로 끝냄
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "membership.point.accumulate-mode", havingValue = "ledger")
+public class LedgerPointAccumulator implements PointAccumulator {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final OutboxService outboxService;
+
+    @Override
+    @Transactional
+    public void accumulate(final Long membershipId, final String userId, final int amount) {
+        pointLedgerRepository.save(PointLedger.builder()
+                .membershipId(membershipId)
+                .userId(userId)
+                .amount(amount)
+                .build());
+        outboxService.pointAccumulated(membershipId, userId, amount);
+    }
+
+    @Override
+    public Integer applyPending(final Long membershipId, final Integer point) {
+        final long pendingAmount = pointLedgerRepository.sumPendingAmount(membershipId);
+        return pendingAmount == 0 ? point : (int) (point + pendingAmount);
+    }
+
+    @Override
+    public Map<Long, Long> getPendingByUserId(final String userId) {
+        return pointLedgerRepository.sumPendingAmountsByUserId(userId).stream()
+                .collect(Collectors.toMap(PendingPointAmount::getMembershipId, PendingPointAmount::getAmount));
+    }
+
+    @Override
+    public boolean hasPending(final Long membershipId) {
+        return pointLedgerRepository.existsByMembershipIdAndMaterializedFalse(membershipId);
+    }
+
+    @Override
+    public boolean hasPendingByUserId(final String userId) {
+        return pointLedgerRepository.existsByUserIdAndMaterializedFalse(userId);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@ConditionalOnProperty(name = "membership.point.accumulate-mode", havingValue = "optimistic")
+public class OptimisticPointAccumulator implements PointAccumulator {
+
+    private final MembershipRepository membershipRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
+    private final int maxAttempts;
+
+    public OptimisticPointAccumulator(
+            final MembershipRepository membershipRepository,
+            final PlatformTransactionManager transactionManager,
+            final OutboxService outboxService,
+            @Value("${membership.point.optimistic-max-attempts:5}") final int maxAttempts) {
+
+        this.membershipRepository = membershipRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출한 쪽의 트랜잭션에 참여하면 버전 충돌로 그 트랜잭션이 롤백 전용이 되어 재시도할 수 없으므로 항상 새 트랜잭션에서 적립
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outboxService = outboxService;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void accumulate(final Long membershipId, final String userId, final int amount) {
+        // 버전 충돌 시 트랜잭션 단위로 재시도
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> addPoint(membershipId, userId, amount));
+                return;
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new MembershipException(MembershipErrorResult.POINT_ACCUMULATE_CONFLICT);
+                }
+            }
+        }
+    }
+
+    private void addPoint(final Long membershipId, final String userId, final int amount) {
+        final Membership membership = membershipRepository.findByIdAndUserId(membershipId, userId)
+                .orElseThrow(() -> new MembershipException(membershipRepository.existsByIdInAnyShard(membershipId)
+                        ? MembershipErrorResult.NOT_MEMBERSHIP_OWNER
+                        : MembershipErrorResult.MEMBERSHIP_NOT_FOUND));
+
+        membership.setPoint(amount + membership.getPoint());
+        outboxService.pointAccumulated(membershipId, userId, amount);
+    }
+
+}
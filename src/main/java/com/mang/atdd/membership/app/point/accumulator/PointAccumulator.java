@@ -0,0 +1,29 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import java.util.Collections;
+import java.util.Map;
+
+public interface PointAccumulator {
+
+    void accumulate(final Long membershipId, final String userId, final int amount);
+
+    // 아직 DB 에 반영되지 않은 적립분이 있다면 조회 결과에 더해서 반환
+    default Integer applyPending(final Long membershipId, final Integer point) {
+        return point;
+    }
+
+    // 사용자의 미반영 적립분을 멤버십별로 한 번에 반환, 목록 조회에서 멤버십마다 조회하지 않도록 함
+    default Map<Long, Long> getPendingByUserId(final String userId) {
+        return Collections.emptyMap();
+    }
+
+    // 조회 결과에 더해질 미반영 적립분이 있으면 DB 의 버전 정보만으로 변경 여부를 판단할 수 없음
+    default boolean hasPending(final Long membershipId) {
+        return false;
+    }
+
+    default boolean hasPendingByUserId(final String userId) {
+        return false;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.mang.atdd.membership.app.point.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 멤버십별 아직 membership.point 에 반영되지 않은 적립 합계
+@Getter
+@RequiredArgsConstructor
+public class PendingPointAmount {
+
+    private final Long membershipId;
+    private final Long amount;
+
+}
@@ -0,0 +1,44 @@
+package com.mang.atdd.membership.app.point.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// 적립 1건당 1행을 추가만 하는 포인트 원장
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_point_ledger_materialized_id", columnList = "materialized, id"),
+        @Index(name = "idx_point_ledger_membership_id_materialized", columnList = "membership_id, materialized, id"),
+        @Index(name = "idx_point_ledger_user_id_materialized", columnList = "user_id, materialized")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long membershipId;
+
+    @Column(nullable = false, updatable = false)
+    private String userId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer amount;
+
+    // membership.point 에 반영되었는지 여부, 행마다 기록하므로 id 순서와 커밋 순서가 달라도 빠짐없이 반영됨
+    @Column(nullable = false)
+    private boolean materialized;
+
+    @CreationTimestamp
+    @Column(nullable = false, length = 20, updatable = false)
+    private LocalDateTime createdAt;
+
+}
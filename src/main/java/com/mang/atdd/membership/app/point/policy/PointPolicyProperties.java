@@ -0,0 +1,73 @@
+package com.mang.atdd.membership.app.point.policy;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "membership.point.policy")
+public class PointPolicyProperties {
+
+    private static final int MAX_RATE_BASIS_POINTS = 10000;
+
+    // 캠페인 규칙이 없을 때의 기본 적립률 (100bp = 1%)
+    @Min(0)
+    @Max(MAX_RATE_BASIS_POINTS)
+    private int defaultRateBasisPoints = 100;
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    public List<PointPolicyRule> toRules() {
+        return rules.stream()
+                .map(rule -> PointPolicyRule.builder()
+                        .name(rule.getName())
+                        .membershipType(rule.getMembershipType())
+                        .startAt(rule.getStartAt())
+                        .endAt(rule.getEndAt())
+                        .rateBasisPoints(rule.getRateBasisPoints())
+                        .priority(rule.getPriority())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 항목의 의미는 PointPolicyRule 과 같음, 시각은 2021-08-01T00:00:00 형식
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String name;
+        private MembershipType membershipType;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime startAt;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime endAt;
+        // 누락하면 0% 로 적용되지 않도록 반드시 지정
+        @NotNull
+        @Min(0)
+        @Max(MAX_RATE_BASIS_POINTS)
+        private Integer rateBasisPoints;
+        private int priority;
+
+        @AssertTrue(message = "startAt must be before endAt")
+        public boolean isPeriodValid() {
+            return startAt == null || endAt == null || startAt.isBefore(endAt);
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.mang.atdd.membership.app.point.policy;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@RequiredArgsConstructor
+public class PointPolicyRule {
+
+    // 캠페인 이름
+    private final String name;
+
+    // null 이면 모든 멤버십 타입에 적용
+    private final MembershipType membershipType;
+
+    // null 이면 시작/종료 제한 없음, 종료 시각은 포함하지 않음
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+
+    // 적립률 (1bp = 0.01%, 100bp = 1%)
+    private final int rateBasisPoints;
+
+    // 같은 시간대에 여러 규칙이 겹치면 우선순위가 높은 규칙의 적립률을 사용
+    private final int priority;
+
+}
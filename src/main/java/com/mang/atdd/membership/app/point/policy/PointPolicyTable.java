@@ -0,0 +1,116 @@
+package com.mang.atdd.membership.app.point.policy;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 적립 규칙을 멤버십 타입별 시간 구간 테이블로 미리 계산한 불변 객체.
+ * 구간은 적립률이 바뀌는 시각으로만 나뉘므로 같은 기간에 활성화된 규칙이 늘어나도 조회 비용은 변하지 않는다.
+ * 조회는 원시 배열에 대한 이진 탐색만 수행하여 객체를 생성하지 않는다.
+ */
+public final class PointPolicyTable {
+
+    // 타입 구분 없이 조회할 때 사용하는 행
+    private static final int COMMON_ROW = MembershipType.values().length;
+
+    private final long[][] segmentStarts;
+    private final int[][] segmentRates;
+
+    private PointPolicyTable(final long[][] segmentStarts, final int[][] segmentRates) {
+        this.segmentStarts = segmentStarts;
+        this.segmentRates = segmentRates;
+    }
+
+    public static PointPolicyTable compile(final List<PointPolicyRule> rules, final int defaultRateBasisPoints, final ZoneId zoneId) {
+        final long[][] segmentStarts = new long[COMMON_ROW + 1][];
+        final int[][] segmentRates = new int[COMMON_ROW + 1][];
+
+        for (int row = 0; row <= COMMON_ROW; row++) {
+            final MembershipType membershipType = row == COMMON_ROW ? null : MembershipType.values()[row];
+            final List<PointPolicyRule> applicableRules = new ArrayList<>();
+            for (final PointPolicyRule rule : rules) {
+                if (rule.getMembershipType() == null || rule.getMembershipType() == membershipType) {
+                    applicableRules.add(rule);
+                }
+            }
+
+            compileRow(applicableRules, defaultRateBasisPoints, zoneId, row, segmentStarts, segmentRates);
+        }
+
+        return new PointPolicyTable(segmentStarts, segmentRates);
+    }
+
+    private static void compileRow(final List<PointPolicyRule> rules, final int defaultRateBasisPoints, final ZoneId zoneId,
+                                   final int row, final long[][] segmentStarts, final int[][] segmentRates) {
+        final TreeSet<Long> boundaries = new TreeSet<>();
+        boundaries.add(Long.MIN_VALUE);
+        for (final PointPolicyRule rule : rules) {
+            boundaries.add(startMillis(rule, zoneId));
+            boundaries.add(endMillis(rule, zoneId));
+        }
+
+        final long[] starts = new long[boundaries.size()];
+        final int[] rates = new int[boundaries.size()];
+        int size = 0;
+        for (final long boundary : boundaries) {
+            final int rate = resolveRate(rules, defaultRateBasisPoints, zoneId, boundary);
+            // 인접 구간의 적립률이 같으면 하나로 합침
+            if (size > 0 && rates[size - 1] == rate) {
+                continue;
+            }
+            starts[size] = boundary;
+            rates[size] = rate;
+            size++;
+        }
+
+        segmentStarts[row] = Arrays.copyOf(starts, size);
+        segmentRates[row] = Arrays.copyOf(rates, size);
+    }
+
+    private static int resolveRate(final List<PointPolicyRule> rules, final int defaultRateBasisPoints, final ZoneId zoneId, final long at) {
+        PointPolicyRule selected = null;
+        for (final PointPolicyRule rule : rules) {
+            if (startMillis(rule, zoneId) <= at && at < endMillis(rule, zoneId)
+                    && (selected == null || rule.getPriority() > selected.getPriority())) {
+                selected = rule;
+            }
+        }
+
+        return selected == null ? defaultRateBasisPoints : selected.getRateBasisPoints();
+    }
+
+    private static long startMillis(final PointPolicyRule rule, final ZoneId zoneId) {
+        return toMillis(rule.getStartAt(), zoneId, Long.MIN_VALUE);
+    }
+
+    private static long endMillis(final PointPolicyRule rule, final ZoneId zoneId) {
+        return toMillis(rule.getEndAt(), zoneId, Long.MAX_VALUE);
+    }
+
+    private static long toMillis(final LocalDateTime dateTime, final ZoneId zoneId, final long defaultValue) {
+        return dateTime == null ? defaultValue : dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    public int rateBasisPoints(final MembershipType membershipType, final long epochMilli) {
+        final int row = membershipType == null ? COMMON_ROW : membershipType.ordinal();
+        final long[] starts = segmentStarts[row];
+
+        int index = Arrays.binarySearch(starts, epochMilli);
+        if (index < 0) {
+            index = -index - 2;
+        }
+
+        return segmentRates[row][index];
+    }
+
+    public int segmentCount(final MembershipType membershipType) {
+        return segmentStarts[membershipType == null ? COMMON_ROW : membershipType.ordinal()].length;
+    }
+
+}
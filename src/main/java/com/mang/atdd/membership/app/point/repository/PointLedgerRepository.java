@@ -0,0 +1,28 @@
+package com.mang.atdd.membership.app.point.repository;
+
+import com.mang.atdd.membership.app.point.dto.PendingPointAmount;
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointLedgerRepository extends JpaRepository<PointLedger, Long>, PointLedgerRepositoryCustom {
+
+    List<PointLedger> findAllByMembershipIdOrderByIdAsc(final Long membershipId);
+
+    // 아직 membership.point 에 반영되지 않은 적립 합계
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedger l WHERE l.membershipId = :membershipId AND l.materialized = false")
+    long sumPendingAmount(@Param("membershipId") final Long membershipId);
+
+    // 사용자의 미반영 적립 합계를 멤버십별로 한 번에 조회
+    @Query("SELECT new com.mang.atdd.membership.app.point.dto.PendingPointAmount(l.membershipId, SUM(l.amount)) " +
+            "FROM PointLedger l WHERE l.userId = :userId AND l.materialized = false GROUP BY l.membershipId")
+    List<PendingPointAmount> sumPendingAmountsByUserId(@Param("userId") final String userId);
+
+    boolean existsByMembershipIdAndMaterializedFalse(final Long membershipId);
+
+    boolean existsByUserIdAndMaterializedFalse(final String userId);
+
+}
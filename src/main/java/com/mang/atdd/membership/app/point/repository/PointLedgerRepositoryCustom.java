@@ -0,0 +1,13 @@
+package com.mang.atdd.membership.app.point.repository;
+
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+
+import java.util.List;
+
+public interface PointLedgerRepositoryCustom {
+
+    List<PointLedger> findUnmaterialized(final int limit);
+
+    void markMaterialized(final List<PointLedger> ledgers);
+
+}
@@ -0,0 +1,46 @@
+package com.mang.atdd.membership.app.point.repository;
+
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PointLedgerRepositoryImpl implements PointLedgerRepositoryCustom {
+
+    private static final String UNMATERIALIZED_SQL =
+            "SELECT id, membership_id, user_id, amount FROM point_ledger WHERE materialized = FALSE ORDER BY id LIMIT ?";
+    private static final String MARK_MATERIALIZED_SQL =
+            "UPDATE point_ledger SET materialized = TRUE WHERE id = ? AND materialized = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PointLedger> findUnmaterialized(final int limit) {
+        return jdbcTemplate.query(UNMATERIALIZED_SQL, (rs, rowNum) -> PointLedger.builder()
+                .id(rs.getLong("id"))
+                .membershipId(rs.getLong("membership_id"))
+                .userId(rs.getString("user_id"))
+                .amount(rs.getInt("amount"))
+                .build(), limit);
+    }
+
+    @Override
+    @Transactional
+    public void markMaterialized(final List<PointLedger> ledgers) {
+        final List<Object[]> batchArgs = new ArrayList<>(ledgers.size());
+        ledgers.forEach(ledger -> batchArgs.add(new Object[]{ledger.getId()}));
+
+        // 다른 반영 작업이 먼저 반영한 원장이 있으면 0건이 되어 배치 전체가 롤백됨
+        for (final int updatedCount : jdbcTemplate.batchUpdate(MARK_MATERIALIZED_SQL, batchArgs)) {
+            if (updatedCount == 0) {
+                throw new OptimisticLockingFailureException("Point ledger was materialized concurrently");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import com.mang.atdd.membership.app.point.repository.PointLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_VERSION_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_VERSION_CACHE;
+
+/**
+ * 포인트 원장을 membership.point 에 일괄 반영한다.
+ * 원장 행마다 반영 여부를 잔액 갱신과 한 트랜잭션에서 기록하므로 같은 원장이 두 번 반영되지 않는다.
+ * 반영 여부로 대상을 고르므로, IDENTITY 키 순서보다 늦게 커밋된 원장도 다음 주기에 반영된다.
+ * 반영 전의 원장은 LedgerPointAccumulator 가 조회 결과에 더한다.
+ * 단일 인스턴스에서 실행되는 것을 전제로 하며, 여러 인스턴스가 동시에 실행되면 반영 여부 비교로 중복 반영은 막지만 배치가 롤백된다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "membership.point.accumulate-mode", havingValue = "ledger")
+public class PointLedgerMaterializer {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final MembershipRepository membershipRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PointLedgerMaterializer(
+            final PointLedgerRepository pointLedgerRepository,
+            final MembershipRepository membershipRepository,
+            final CacheManager cacheManager,
+            final PlatformTransactionManager transactionManager,
+            @Value("${membership.point.ledger.batch-size:500}") final int batchSize) {
+
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.membershipRepository = membershipRepository;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${membership.point.ledger.materialize-interval-ms:1000}")
+    public synchronized void materialize() {
+        try {
+            List<PointLedger> ledgers;
+            do {
+                ledgers = transactionTemplate.execute(status -> materializeBatch());
+                evictCaches(ledgers);
+            } while (ledgers.size() >= batchSize);
+        } catch (final DataAccessException e) {
+            // 반영하지 못한 원장은 반영 여부가 그대로이므로 다음 주기에 다시 반영
+            log.warn("Point ledger materialization failed.", e);
+        }
+    }
+
+    private List<PointLedger> materializeBatch() {
+        final List<PointLedger> ledgers = pointLedgerRepository.findUnmaterialized(batchSize);
+        if (ledgers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Map<Long, Long> pointDeltas = new HashMap<>();
+        for (final PointLedger ledger : ledgers) {
+            pointDeltas.merge(ledger.getMembershipId(), ledger.getAmount().longValue(), Long::sum);
+        }
+
+        membershipRepository.accumulatePoints(pointDeltas);
+        pointLedgerRepository.markMaterialized(ledgers);
+        return ledgers;
+    }
+
+    private void evictCaches(final List<PointLedger> ledgers) {
+        final Cache membershipCache = cacheManager.getCache(MEMBERSHIP_CACHE);
+        final Cache membershipListCache = cacheManager.getCache(MEMBERSHIP_LIST_CACHE);
+        final Cache membershipVersionCache = cacheManager.getCache(MEMBERSHIP_VERSION_CACHE);
+        final Cache membershipListVersionCache = cacheManager.getCache(MEMBERSHIP_LIST_VERSION_CACHE);
+        for (final PointLedger ledger : ledgers) {
+            if (membershipCache != null) {
+                membershipCache.evict(ledger.getMembershipId() + ":" + ledger.getUserId());
+            }
+            if (membershipListCache != null) {
+                membershipListCache.evict(ledger.getUserId());
+            }
+            if (membershipVersionCache != null) {
+                membershipVersionCache.evict(ledger.getMembershipId() + ":" + ledger.getUserId());
+            }
+            if (membershipListVersionCache != null) {
+                membershipListVersionCache.evict(ledger.getUserId());
+            }
+        }
+    }
+
+}
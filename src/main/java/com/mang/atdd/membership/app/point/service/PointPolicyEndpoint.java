@@ -0,0 +1,25 @@
+package com.mang.atdd.membership.app.point.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// POST /actuator/pointpolicy
+@Component
+@Endpoint(id = "pointpolicy")
+@ConditionalOnProperty(name = "membership.point.policy.rules-location")
+@RequiredArgsConstructor
+public class PointPolicyEndpoint {
+
+    private final PointPolicyReloader pointPolicyReloader;
+
+    @WriteOperation
+    public int reload() throws IOException {
+        return pointPolicyReloader.reload();
+    }
+
+}
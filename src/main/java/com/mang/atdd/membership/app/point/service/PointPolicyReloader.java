@@ -0,0 +1,72 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.point.policy.PointPolicyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.validation.ValidationBindHandler;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.Validator;
+import java.io.IOException;
+
+/**
+ * membership.point.policy.rules-location 의 규칙 파일을 다시 읽어 적립 규칙을 교체한다.
+ * 파일은 application.properties 와 같은 membership.point.policy.rules[n].* 키를 사용하며, 기본 적립률은 기동 시 설정을 유지한다.
+ * 파일이 바뀐 경우에만 주기적으로 다시 읽고, POST /actuator/pointpolicy 로 즉시 다시 읽을 수 있다.
+ * 검증에 실패한 규칙 파일은 적용하지 않고 이전 규칙을 유지한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "membership.point.policy.rules-location")
+public class PointPolicyReloader {
+
+    private static final String PREFIX = "membership.point.policy";
+
+    private final PolicyPointService policyPointService;
+    private final Resource rulesLocation;
+    private final SpringValidatorAdapter validator;
+    private long lastModified;
+
+    public PointPolicyReloader(
+            final PolicyPointService policyPointService,
+            @Value("${membership.point.policy.rules-location}") final Resource rulesLocation,
+            final Validator validator) {
+
+        this.policyPointService = policyPointService;
+        this.rulesLocation = rulesLocation;
+        this.validator = new SpringValidatorAdapter(validator);
+    }
+
+    // 적용한 규칙 수를 반환, 파일을 읽지 못하거나 검증에 실패하면 예외
+    public synchronized int reload() throws IOException {
+        final long modified = rulesLocation.lastModified();
+        final PointPolicyProperties properties = new Binder(new MapConfigurationPropertySource(PropertiesLoaderUtils.loadProperties(rulesLocation)))
+                .bind(PREFIX, Bindable.of(PointPolicyProperties.class), new ValidationBindHandler(validator))
+                .orElseGet(PointPolicyProperties::new);
+
+        policyPointService.updateRules(properties.toRules());
+        lastModified = modified;
+        return properties.getRules().size();
+    }
+
+    @Scheduled(fixedDelayString = "${membership.point.policy.reload-interval-ms:60000}")
+    public synchronized void reloadIfModified() {
+        try {
+            if (rulesLocation.lastModified() != lastModified) {
+                log.info("Point policy rules reloaded: {}", reload());
+            }
+        } catch (final IOException | BindException e) {
+            log.warn("Point policy rules reload failed: ", e);
+        }
+    }
+
+}
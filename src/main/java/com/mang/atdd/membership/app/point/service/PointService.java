@@ -1,7 +1,13 @@
 package com.mang.atdd.membership.app.point.service;
 
+import com.mang.atdd.membership.app.enums.MembershipType;
+
 public interface PointService {
 
     int calculateAmount(final int price);
 
+    default int calculateAmount(final MembershipType membershipType, final int price) {
+        return calculateAmount(price);
+    }
+
 }
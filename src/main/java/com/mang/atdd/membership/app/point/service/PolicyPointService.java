@@ -0,0 +1,55 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.point.policy.PointPolicyProperties;
+import com.mang.atdd.membership.app.point.policy.PointPolicyRule;
+import com.mang.atdd.membership.app.point.policy.PointPolicyTable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 적립 규칙은 membership.point.policy.rules 로 설정하며 기동 시 테이블로 미리 계산, 운영 중 변경은 PointPolicyReloader 가 반영
+@Primary
+@Service
+@EnableConfigurationProperties(PointPolicyProperties.class)
+public class PolicyPointService implements PointService {
+
+    private static final int BASIS_POINTS = 10000;
+
+    private final Clock clock;
+    private final int defaultRateBasisPoints;
+    private final AtomicReference<PointPolicyTable> policyTable;
+
+    @Autowired
+    public PolicyPointService(final PointPolicyProperties properties) {
+        this(Clock.systemDefaultZone(), properties.getDefaultRateBasisPoints(), properties.toRules());
+    }
+
+    PolicyPointService(final Clock clock, final int defaultRateBasisPoints, final List<PointPolicyRule> rules) {
+        this.clock = clock;
+        this.defaultRateBasisPoints = defaultRateBasisPoints;
+        this.policyTable = new AtomicReference<>(PointPolicyTable.compile(rules, defaultRateBasisPoints, clock.getZone()));
+    }
+
+    @Override
+    public int calculateAmount(final int price) {
+        return calculateAmount(null, price);
+    }
+
+    @Override
+    public int calculateAmount(final MembershipType membershipType, final int price) {
+        final int rateBasisPoints = policyTable.get().rateBasisPoints(membershipType, clock.millis());
+        return (int) ((long) price * rateBasisPoints / BASIS_POINTS);
+    }
+
+    // 규칙 변경 시 새 테이블을 미리 계산한 뒤 한 번에 교체하여 조회 중인 요청에 영향을 주지 않음
+    public void updateRules(final List<PointPolicyRule> rules) {
+        policyTable.set(PointPolicyTable.compile(rules, defaultRateBasisPoints, clock.getZone()));
+    }
+
+}
@@ -1,12 +1,29 @@
 package com.mang.atdd.membership.exception;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public class MembershipException extends RuntimeException {
 
+    static final String STACK_TRACE_ENABLED_PROPERTY = "membership.exception.stack-trace-enabled";
+
+    // 예상된 비즈니스 예외는 스택 트레이스가 필요 없으므로 끄면 생성 비용(fillInStackTrace)이 사라짐
+    // JVM 전체에 적용되므로 시스템 프로퍼티(-Dmembership.exception.stack-trace-enabled=true)로 기동 시 한 번만 정함
+    private static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean(STACK_TRACE_ENABLED_PROPERTY);
+
     private final MembershipErrorResult errorResult;
 
-}
\ No newline at end of file
+    public MembershipException(final MembershipErrorResult errorResult) {
+        this(errorResult, STACK_TRACE_ENABLED);
+    }
+
+    public MembershipException(final MembershipErrorResult errorResult, final boolean writableStackTrace) {
+        super(errorResult.name(), null, false, writableStackTrace);
+        this.errorResult = errorResult;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return STACK_TRACE_ENABLED;
+    }
+
+}
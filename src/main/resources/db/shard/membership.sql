@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS membership (
+    id BIGINT NOT NULL,
+    membership_type VARCHAR(255),
+    user_id VARCHAR(255) NOT NULL,
+    point INTEGER DEFAULT 0 NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_membership_user_id_membership_type UNIQUE (user_id, membership_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_membership_user_id_id ON membership (user_id, id);
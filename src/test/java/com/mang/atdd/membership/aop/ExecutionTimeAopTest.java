@@ -0,0 +1,76 @@
+package com.mang.atdd.membership.aop;
+
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static com.mang.atdd.membership.aop.ExecutionTimeAop.LATENCY_METRIC;
+import static com.mang.atdd.membership.aop.ExecutionTimeAop.RESULT_METRIC;
+import static com.mang.atdd.membership.aop.ExecutionTimeAop.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExecutionTimeAopTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CheckedTarget target;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CheckedTarget());
+        proxyFactory.addAspect(new ExecutionTimeAop(meterRegistry));
+        target = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void 실행시간기록_성공() {
+        // given
+
+        // when
+        target.success();
+        target.success();
+
+        // then
+        final Timer timer = meterRegistry.get(LATENCY_METRIC).tag("method", "success").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.get(RESULT_METRIC).tag("method", "success").tag("result", SUCCESS).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void 실행시간기록_에러코드별집계() {
+        // given
+
+        // when
+        assertThrows(MembershipException.class, () -> target.fail());
+        assertThrows(IllegalStateException.class, () -> target.unknownFail());
+
+        // then
+        assertThat(meterRegistry.get(LATENCY_METRIC).tag("method", "fail").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(RESULT_METRIC).tag("method", "fail").tag("result", MembershipErrorResult.MEMBERSHIP_NOT_FOUND.name()).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(RESULT_METRIC).tag("method", "fail").tag("result", SUCCESS).counter().count()).isZero();
+        assertThat(meterRegistry.get(RESULT_METRIC).tag("method", "unknownFail").tag("result", MembershipErrorResult.UNKNOWN_EXCEPTION.name()).counter().count()).isEqualTo(1);
+    }
+
+    @ExecutionTimeChecker
+    public static class CheckedTarget {
+
+        public void success() {
+        }
+
+        public void fail() {
+            throw new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        }
+
+        public void unknownFail() {
+            throw new IllegalStateException();
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.mang.atdd.membership.aop;
+
+import com.mang.atdd.membership.app.common.hotkey.HotKey;
+import com.mang.atdd.membership.app.common.hotkey.HotKeyTracker;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightAopTest {
+
+    private static final int THREADS = 8;
+
+    private HotKeyTracker hotKeyTracker;
+    private SlowTarget slowTarget;
+    private SlowTarget target;
+    private ThreadPoolExecutor executorService;
+
+    @BeforeEach
+    public void init() {
+        hotKeyTracker = new HotKeyTracker(1, 10, 4, 256);
+        slowTarget = new SlowTarget();
+        target = proxy(10000L);
+        executorService = (ThreadPoolExecutor) Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void 동시조회_한번만실행() throws Exception {
+        // given
+        final List<Future<String>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> target.find("userId")));
+        }
+        awaitCallers();
+        slowTarget.release.countDown();
+
+        // then
+        for (final Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("userId:1");
+        }
+        assertThat(slowTarget.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 동시조회_인자가다르면각각실행() throws Exception {
+        // given
+        slowTarget.release.countDown();
+
+        // when
+        final String first = target.find("userId");
+        final String second = target.find("otherUserId");
+
+        // then
+        assertThat(first).isEqualTo("userId:1");
+        assertThat(second).isEqualTo("otherUserId:2");
+    }
+
+    @Test
+    public void 동시조회_예외도함께전달() throws Exception {
+        // given
+        slowTarget.failure = new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        final List<Future<String>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> target.find("userId")));
+        }
+        awaitCallers();
+        slowTarget.release.countDown();
+
+        // then
+        for (final Future<String> future : futures) {
+            final ExecutionException result = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertThat(result.getCause()).isSameAs(slowTarget.failure);
+        }
+        assertThat(slowTarget.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 쓰기이후의호출은쓰기전에시작된조회에합류하지않음() throws Exception {
+        // given
+        final Future<String> first = executorService.submit(() -> target.find("userId"));
+        slowTarget.entered.await(5, TimeUnit.SECONDS);
+        target.write("userId");
+
+        // when
+        final Future<String> second = executorService.submit(() -> target.find("userId"));
+        while (slowTarget.invocations.get() < 2 && !second.isDone()) {
+            Thread.sleep(10);
+        }
+        slowTarget.release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("userId:1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("userId:2");
+    }
+
+    @Test
+    public void 다른사용자의쓰기는진행중인조회에영향없음() throws Exception {
+        // given
+        final Future<String> first = executorService.submit(() -> target.find("userId"));
+        slowTarget.entered.await(5, TimeUnit.SECONDS);
+        target.write("otherUserId");
+
+        // when
+        final Future<String> second = executorService.submit(() -> target.find("userId"));
+        awaitActive(2);
+        slowTarget.release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("userId:1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("userId:1");
+        assertThat(slowTarget.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 진행중인호출이지연되면직접실행() throws Exception {
+        // given
+        target = proxy(100L);
+        final Future<String> first = executorService.submit(() -> target.find("userId"));
+        slowTarget.entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        final Future<String> second = executorService.submit(() -> target.find("userId"));
+        while (slowTarget.invocations.get() < 2 && !second.isDone()) {
+            Thread.sleep(10);
+        }
+        slowTarget.release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("userId:1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("userId:2");
+    }
+
+    @Test
+    public void 조회키를HotKey로기록() {
+        // given
+        slowTarget.release.countDown();
+
+        // when
+        target.find("userId");
+        target.find("userId");
+        target.find("otherUserId");
+
+        // then
+        final List<HotKey> result = hotKeyTracker.topKeys().get(HotKeyTracker.USER_ID);
+        assertThat(result.get(0).getKey()).isEqualTo("userId");
+        assertThat(result.get(0).getEstimatedCount()).isEqualTo(2);
+    }
+
+    private SlowTarget proxy(final long waitTimeoutMs) {
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(slowTarget);
+        proxyFactory.addAspect(new SingleFlightAop(hotKeyTracker, waitTimeoutMs));
+        return proxyFactory.getProxy();
+    }
+
+    // 먼저 들어온 호출이 대상 메서드 안에서 대기하는 동안 나머지 호출이 모두 진입할 때까지 기다림
+    private void awaitCallers() throws InterruptedException {
+        slowTarget.entered.await(5, TimeUnit.SECONDS);
+        awaitActive(THREADS);
+    }
+
+    private void awaitActive(final int threads) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executorService.getActiveCount() < threads && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+    }
+
+    public static class SlowTarget {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger invocations = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        @SingleFlight
+        public String find(final String userId) throws InterruptedException {
+            final int invocation = invocations.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            if (failure != null) {
+                throw failure;
+            }
+            return userId + ":" + invocation;
+        }
+
+        @Caching(evict = @CacheEvict(cacheNames = "membership", key = "#userId"))
+        public void write(final String userId) {
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.mang.atdd.membership.app.common;
+
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler target = new GlobalExceptionHandler();
+
+    @Test
+    public void 에러응답_미리직렬화된본문() {
+        // given
+        final MembershipException exception = new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+
+        // when
+        final ResponseEntity<byte[]> result = target.handleRestApiException(exception);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(result.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"code\":\"MEMBERSHIP_NOT_FOUND\",\"message\":\"Membership Not found\"}");
+        assertThat(target.handleRestApiException(exception)).isSameAs(result);
+    }
+
+    @Test
+    public void 에러응답_요청수초과시RetryAfter() {
+        // given
+        final MembershipException exception = new MembershipException(MembershipErrorResult.TOO_MANY_REQUESTS);
+
+        // when
+        final ResponseEntity<byte[]> result = target.handleRestApiException(exception);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    public void 비즈니스예외_기본은스택트레이스없음() {
+        // given
+
+        // when
+        final MembershipException result = new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+
+        // then
+        assertThat(MembershipException.isStackTraceEnabled()).isFalse();
+        assertThat(result.getStackTrace()).isEmpty();
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+    }
+
+    @Test
+    public void 비즈니스예외_호출부에서스택트레이스지정() {
+        // given
+
+        // when
+        final MembershipException result = new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND, true);
+
+        // then
+        assertThat(result.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void 경고로그_주기별로한건만() {
+        // given
+        final ErrorLogSampler sampler = new ErrorLogSampler(60000);
+
+        // when
+        final long first = sampler.sample(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        final long second = sampler.sample(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        final long other = sampler.sample(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(ErrorLogSampler.SUPPRESSED);
+        assertThat(other).isZero();
+    }
+
+}
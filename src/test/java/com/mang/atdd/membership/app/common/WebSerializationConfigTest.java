@@ -0,0 +1,76 @@
+package com.mang.atdd.membership.app.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebSerializationConfigTest {
+
+    private final WebSerializationConfig target = new WebSerializationConfig();
+
+    @Test
+    public void CBOR직렬화() throws Exception {
+        // given
+        final List<MembershipDetailResponse> responses = responses(1);
+
+        // when
+        final byte[] result = write(target.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()), responses, MediaType.APPLICATION_CBOR);
+
+        // then
+        final JsonNode node = new ObjectMapper(new CBORFactory()).readTree(result);
+        assertThat(node.get(0).get("membershipType").asText()).isEqualTo(MembershipType.NAVER.name());
+        assertThat(node.get(0).get("point").asInt()).isEqualTo(10000);
+        assertThat(node.get(0).get("createdAt").isArray()).isTrue();
+    }
+
+    @Test
+    public void Smile직렬화_JSON보다작음() throws Exception {
+        // given
+        final List<MembershipDetailResponse> responses = responses(100);
+
+        // when
+        final byte[] result = write(target.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()), responses, new MediaType("application", "x-jackson-smile"));
+        final byte[] json = write(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()), responses, MediaType.APPLICATION_JSON);
+
+        // then
+        final JsonNode node = new ObjectMapper(new SmileFactory()).readTree(result);
+        assertThat(node.size()).isEqualTo(100);
+        assertThat(node.get(99).get("id").asLong()).isEqualTo(99L);
+        assertThat(result.length).isLessThan(json.length);
+    }
+
+    private byte[] write(final GenericHttpMessageConverter<Object> converter, final Object value, final MediaType mediaType) throws Exception {
+        final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, null, mediaType, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    private List<MembershipDetailResponse> responses(final int size) {
+        final List<MembershipDetailResponse> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(MembershipDetailResponse.builder()
+                    .id((long) i)
+                    .membershipType(MembershipType.NAVER)
+                    .point(10000 + i)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataSourceTuningConfigTest {
+
+    @Test
+    public void 풀설정적용_지정한값만변경() {
+        // given
+        final DataSourceTuningProperties tuningProperties = new DataSourceTuningProperties();
+        tuningProperties.getPool().setMaximumPoolSize(20);
+        tuningProperties.getPool().setConnectionTimeoutMs(3000L);
+        final HikariDataSource dataSource = new HikariDataSource();
+        final int defaultMinimumIdle = dataSource.getMinimumIdle();
+
+        // when
+        DataSourceTuningConfig.tune(dataSource, tuningProperties);
+
+        // then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(3000L);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(defaultMinimumIdle);
+    }
+
+    @Test
+    public void 스테이트먼트캐시적용_MariaDB() {
+        // given
+        final DataSourceTuningProperties tuningProperties = new DataSourceTuningProperties();
+        tuningProperties.getStatementCache().setEnabled(true);
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mariadb://localhost/security");
+
+        // when
+        DataSourceTuningConfig.tune(dataSource, tuningProperties);
+
+        // then
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry("cachePrepStmts", "true")
+                .containsEntry("prepStmtCacheSize", "250")
+                .containsEntry("useServerPrepStmts", "true");
+    }
+
+    @Test
+    public void 스테이트먼트캐시미적용_H2() {
+        // given
+        final DataSourceTuningProperties tuningProperties = new DataSourceTuningProperties();
+        tuningProperties.getStatementCache().setEnabled(true);
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:db");
+
+        // when
+        DataSourceTuningConfig.tune(dataSource, tuningProperties);
+
+        // then
+        assertThat(dataSource.getDataSourceProperties()).isEmpty();
+    }
+
+}
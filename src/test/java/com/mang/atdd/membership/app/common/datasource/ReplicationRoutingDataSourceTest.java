@@ -0,0 +1,90 @@
+package com.mang.atdd.membership.app.common.datasource;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary 와 replica 를 서로 다른 H2 인메모리 DB 로 띄우고, 어느 쪽에서 조회했는지는 각 DB 에만 있는 데이터로 구분
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicationRoutingDataSourceTest.PRIMARY_URL,
+        "membership.datasource.routing.enabled=true",
+        "membership.datasource.routing.read-your-writes-window-ms=60000",
+        "membership.datasource.routing.replicas[0].driver-class-name=org.h2.Driver",
+        "membership.datasource.routing.replicas[0].url=" + ReplicationRoutingDataSourceTest.REPLICA_URL,
+        "membership.datasource.routing.replicas[0].username=h2test",
+        "membership.datasource.routing.replicas[0].password=h2test",
+})
+public class ReplicationRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MembershipService membershipService;
+
+    private final JdbcTemplate primaryJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "h2test", "h2test"));
+    private final JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "h2test", "h2test"));
+
+    @BeforeEach
+    public void init() {
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS membership (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, membership_type VARCHAR(255), user_id VARCHAR(255) NOT NULL, " +
+                "point INT NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP, version BIGINT)");
+    }
+
+    @Test
+    public void 읽기전용조회는replica에서조회() {
+        // given
+        final String userId = "replicaUserId";
+        replicaJdbcTemplate.update("INSERT INTO membership (membership_type, user_id, point, created_at, version) " +
+                "VALUES ('NAVER', ?, 10000, CURRENT_TIMESTAMP, 0)", userId);
+
+        // when
+        final List<MembershipDetailResponse> result = membershipService.getMembershipList(userId);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    public void 쓰기직후같은사용자의조회는primary에서조회() {
+        // given
+        final String userId = "primaryUserId";
+        membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+
+        // when
+        final List<MembershipDetailResponse> result = membershipService.getMembershipList(userId);
+
+        // then
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    public void 다른사용자의조회는replica에서조회() {
+        // given
+        final String readerUserId = "readerUserId";
+        membershipService.addMembership("writerUserId", MembershipType.NAVER, 10000);
+        // 같은 사용자의 멤버십을 primary 와 replica 에 서로 다른 타입으로 넣어 어느 쪽에서 조회했는지 구분
+        primaryJdbcTemplate.update("INSERT INTO membership (id, membership_type, user_id, point, created_at, version) " +
+                "VALUES (-1, 'NAVER', ?, 10000, CURRENT_TIMESTAMP, 0)", readerUserId);
+        replicaJdbcTemplate.update("INSERT INTO membership (membership_type, user_id, point, created_at, version) " +
+                "VALUES ('KAKAO', ?, 10000, CURRENT_TIMESTAMP, 0)", readerUserId);
+
+        // when
+        final List<MembershipDetailResponse> result = membershipService.getMembershipList(readerUserId);
+
+        // then
+        assertThat(result).extracting(MembershipDetailResponse::getMembershipType).containsExactly(MembershipType.KAKAO);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void 추정빈도_더한횟수이상() {
+        // given
+        final CountMinSketch target = new CountMinSketch(4, 1024);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            target.add("key" + (i % 100), 1);
+        }
+
+        // then
+        for (int i = 0; i < 100; i++) {
+            assertThat(target.estimate("key" + i)).isGreaterThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    public void hashCode가같은키_서로다른열에기록() {
+        // given
+        final CountMinSketch target = new CountMinSketch(4, 1024);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        // when
+        target.add("Aa", 10);
+
+        // then
+        assertThat(target.estimate("Aa")).isEqualTo(10);
+        assertThat(target.estimate("BB")).isZero();
+    }
+
+    @Test
+    public void hashCode가같은키가많아도_서로섞이지않음() {
+        // given
+        final CountMinSketch target = new CountMinSketch(4, 1024);
+
+        // when
+        // "Aa" 와 "BB" 를 8번 이어 붙인 256 개의 키는 String.hashCode 가 모두 같음
+        for (int i = 0; i < 256; i++) {
+            target.add(collidingKey(i), 1);
+        }
+
+        // then
+        assertThat(collidingKey(0).hashCode()).isEqualTo(collidingKey(255).hashCode());
+        assertThat(target.estimate(collidingKey(0))).isLessThan(5);
+    }
+
+    private String collidingKey(final int bits) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            builder.append((bits & (1 << i)) == 0 ? "Aa" : "BB");
+        }
+        return builder.toString();
+    }
+
+}
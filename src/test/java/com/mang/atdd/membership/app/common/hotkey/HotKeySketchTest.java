@@ -0,0 +1,49 @@
+package com.mang.atdd.membership.app.common.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotKeySketchTest {
+
+    @Test
+    public void 상위키추적_빈도순() {
+        // given
+        final HotKeySketch target = new HotKeySketch(4, 1024, 3);
+
+        // when
+        for (int i = 0; i < 10000; i++) {
+            target.add("cold" + i, 1);
+            if (i % 10 == 0) {
+                target.add("hot1", 1);
+            }
+            if (i % 20 == 0) {
+                target.add("hot2", 1);
+            }
+        }
+
+        // then
+        final List<HotKey> result = target.topKeys();
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(HotKey::getKey).startsWith("hot1", "hot2");
+        assertThat(result.get(0).getEstimatedCount()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    public void 감쇠_빈도절반() {
+        // given
+        final HotKeySketch target = new HotKeySketch(4, 1024, 3);
+        target.add("hot", 100);
+        target.add("cold", 1);
+
+        // when
+        target.decay();
+
+        // then
+        assertThat(target.topKeys()).extracting(HotKey::getKey).containsExactly("hot");
+        assertThat(target.topKeys().get(0).getEstimatedCount()).isEqualTo(50);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.mang.atdd.membership.app.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnowflakeIdGeneratorTest {
+
+    private final MutableClock clock = new MutableClock(SnowflakeIdGenerator.EPOCH_MILLI + 1000);
+
+    @Test
+    public void 노드id범위검증() {
+        // given
+
+        // when
+        final IllegalArgumentException result = assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGenerator((int) SnowflakeIdGenerator.MAX_NODE_ID + 1));
+
+        // then
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    public void 생성순서대로증가하고노드id포함() {
+        // given
+        final SnowflakeIdGenerator target = new SnowflakeIdGenerator(7, clock, 1000);
+
+        // when
+        final long first = target.nextId();
+        final long second = target.nextId();
+        clock.millis += 1;
+        final long third = target.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat((first >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(7);
+    }
+
+    @Test
+    public void 시계가허용범위안에서뒤로가도증가() {
+        // given
+        final SnowflakeIdGenerator target = new SnowflakeIdGenerator(0, clock, 1000);
+        final long before = target.nextId();
+
+        // when
+        clock.millis -= 500;
+        final long result = target.nextId();
+
+        // then
+        assertThat(result).isGreaterThan(before);
+    }
+
+    @Test
+    public void 시계가허용범위를넘게뒤로가면예외() {
+        // given
+        final SnowflakeIdGenerator target = new SnowflakeIdGenerator(0, clock, 1000);
+        target.nextId();
+
+        // when
+        clock.millis -= 1001;
+        final IllegalStateException result = assertThrows(IllegalStateException.class, target::nextId);
+
+        // then
+        assertThat(result.getMessage()).contains("clock moved backwards");
+    }
+
+    @Test
+    public void 동시생성시중복없음() throws Exception {
+        // given
+        final SnowflakeIdGenerator target = new SnowflakeIdGenerator(0);
+        final int threadCount = 8;
+        final int idCountPerThread = 50000;
+        final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        // when
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < idCountPerThread; j++) {
+                    ids.add(target.nextId());
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idCountPerThread);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile long millis;
+
+        private MutableClock(final long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    public void 동시처리제한_상한초과시거절() {
+        // given
+        final AdaptiveConcurrencyLimiter target = new AdaptiveConcurrencyLimiter(2, 1, 10, 200, 0.5);
+
+        // when
+        final boolean first = target.tryAcquire();
+        final boolean second = target.tryAcquire();
+        final boolean third = target.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(target.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void 동시처리제한_응답이느리면감소() {
+        // given
+        final AdaptiveConcurrencyLimiter target = new AdaptiveConcurrencyLimiter(8, 1, 10, 200, 0.5);
+        target.tryAcquire();
+        target.tryAcquire();
+
+        // when
+        target.release(SLOW, true, System.nanoTime() + SLOW);
+        target.release(SLOW, true, System.nanoTime() + SLOW);
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(4);
+        assertThat(target.getInFlight()).isZero();
+    }
+
+    @Test
+    public void 동시처리제한_바쁘고응답이빠르면증가() {
+        // given
+        final AdaptiveConcurrencyLimiter target = new AdaptiveConcurrencyLimiter(2, 1, 10, 200, 0.5);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            target.tryAcquire();
+            target.tryAcquire();
+            target.release(FAST, true);
+            target.release(FAST, true);
+        }
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    public void 동시처리제한_최소값아래로줄지않음() {
+        // given
+        final AdaptiveConcurrencyLimiter target = new AdaptiveConcurrencyLimiter(2, 2, 10, 200, 0.5);
+        target.tryAcquire();
+
+        // when
+        target.release(FAST, false, System.nanoTime() + SLOW);
+
+        // then
+        assertThat(target.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void 동시처리제한_취소하면상한은그대로() {
+        // given
+        final AdaptiveConcurrencyLimiter target = new AdaptiveConcurrencyLimiter(2, 1, 10, 200, 0.5);
+        target.tryAcquire();
+        target.tryAcquire();
+
+        // when
+        target.cancel();
+
+        // then
+        assertThat(target.getInFlight()).isEqualTo(1);
+        assertThat(target.getLimit()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static com.mang.atdd.membership.app.common.ratelimit.RateLimitInterceptor.REJECTED_METRIC;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private RateLimitInterceptor target;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 200, 0.5);
+        target = new RateLimitInterceptor(new UserRateLimiter(1, 1, 100), concurrencyLimiter, meterRegistry);
+    }
+
+    @Test
+    public void 요청수제한_사용자별초과시거절() {
+        // given
+        target.preHandle(request("userId"), new MockHttpServletResponse(), null);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class,
+                () -> target.preHandle(request("userId"), new MockHttpServletResponse(), null));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get(REJECTED_METRIC).tag("limiter", "user").counter().count()).isEqualTo(1);
+        assertThat(concurrencyLimiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void 요청수제한_동시처리초과시거절() {
+        // given
+        target.preHandle(request("userId1"), new MockHttpServletResponse(), null);
+        target.preHandle(request("userId2"), new MockHttpServletResponse(), null);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class,
+                () -> target.preHandle(request("userId3"), new MockHttpServletResponse(), null));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.SERVER_BUSY);
+        assertThat(meterRegistry.get(REJECTED_METRIC).tag("limiter", "global").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void 요청수제한_동시처리초과로거절되면사용자토큰을쓰지않음() {
+        // given
+        final MockHttpServletRequest first = request("userId1");
+        target.preHandle(first, new MockHttpServletResponse(), null);
+        target.preHandle(request("userId2"), new MockHttpServletResponse(), null);
+        assertThrows(MembershipException.class,
+                () -> target.preHandle(request("userId3"), new MockHttpServletResponse(), null));
+        target.afterCompletion(first, new MockHttpServletResponse(), null, null);
+
+        // when
+        final boolean result = target.preHandle(request("userId3"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(meterRegistry.get(REJECTED_METRIC).tag("limiter", "user").counter().count()).isZero();
+    }
+
+    @Test
+    public void 요청수제한_완료되면반환() {
+        // given
+        final MockHttpServletRequest request = request("userId");
+        target.preHandle(request, new MockHttpServletResponse(), null);
+
+        // when
+        target.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        target.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    public void 요청수제한_비동기재디스패치는허가를다시받지않음() {
+        // given
+        final MockHttpServletRequest request = request("userId");
+        request.setRequestURI("/api/v1/async/memberships/-1/accumulate");
+        target.preHandle(request, new MockHttpServletResponse(), null);
+
+        // when
+        final boolean result = target.preHandle(request, new MockHttpServletResponse(), null);
+        target.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(meterRegistry.get(REJECTED_METRIC).tag("limiter", "user").counter().count()).isZero();
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    private MockHttpServletRequest request(final String userId) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/memberships/-1/accumulate");
+        request.addHeader(USER_ID_HEADER, userId);
+        return request;
+    }
+
+}
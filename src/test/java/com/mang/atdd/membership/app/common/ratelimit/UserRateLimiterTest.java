@@ -0,0 +1,62 @@
+package com.mang.atdd.membership.app.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void 요청수제한_버스트초과시거절() {
+        // given
+        final UserRateLimiter target = new UserRateLimiter(10, 5, 100);
+
+        // when
+        int acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            if (target.tryAcquire("userId", 0)) {
+                acquired++;
+            }
+        }
+
+        // then
+        assertThat(acquired).isEqualTo(5);
+        assertThat(target.tryAcquire("otherUserId", 0)).isTrue();
+    }
+
+    @Test
+    public void 요청수제한_시간이지나면다시허용() {
+        // given
+        final UserRateLimiter target = new UserRateLimiter(10, 1, 100);
+        target.tryAcquire("userId", 0);
+
+        // when
+        final boolean rejected = target.tryAcquire("userId", SECOND / 20);
+        final boolean result = target.tryAcquire("userId", SECOND / 10);
+
+        // then
+        assertThat(rejected).isFalse();
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void 요청수제한_가득찬버킷만제거() {
+        // given
+        final UserRateLimiter target = new UserRateLimiter(10, 1, 2);
+        target.tryAcquire("idleUserId", 0);
+        target.tryAcquire("busyUserId", SECOND);
+
+        // when
+        final boolean result = target.tryAcquire("newUserId", SECOND);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.tryAcquire("busyUserId", SECOND)).isFalse();
+    }
+
+}
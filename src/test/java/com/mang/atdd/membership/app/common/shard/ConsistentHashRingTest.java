@@ -0,0 +1,65 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsistentHashRingTest {
+
+    private final int keyCount = 30000;
+
+    @Test
+    public void 같은키는항상같은샤드() {
+        // given
+        final ConsistentHashRing first = new ConsistentHashRing(Arrays.asList("shard0", "shard1", "shard2"), 160);
+        final ConsistentHashRing second = new ConsistentHashRing(Arrays.asList("shard0", "shard1", "shard2"), 160);
+
+        // when
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(first.locate("userId" + i)).isEqualTo(second.locate("userId" + i));
+        }
+    }
+
+    @Test
+    public void 키가샤드에고르게분포() {
+        // given
+        final ConsistentHashRing target = new ConsistentHashRing(Arrays.asList("shard0", "shard1", "shard2"), 160);
+
+        // when
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            counts.merge(target.locate("userId" + i), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(keyCount / 3 * 8 / 10, keyCount / 3 * 12 / 10));
+    }
+
+    @Test
+    public void 샤드추가시새샤드로만일부이동() {
+        // given
+        final ConsistentHashRing before = new ConsistentHashRing(Arrays.asList("shard0", "shard1", "shard2"), 160);
+        final ConsistentHashRing after = new ConsistentHashRing(Arrays.asList("shard0", "shard1", "shard2", "shard3"), 160);
+
+        // when
+        int movedCount = 0;
+        for (int i = 0; i < keyCount; i++) {
+            final String key = "userId" + i;
+            if (!before.locate(key).equals(after.locate(key))) {
+                assertThat(after.locate(key)).isEqualTo("shard3");
+                movedCount++;
+            }
+        }
+
+        // then
+        assertThat(movedCount).isBetween(keyCount / 4 * 7 / 10, keyCount / 4 * 13 / 10);
+    }
+
+}
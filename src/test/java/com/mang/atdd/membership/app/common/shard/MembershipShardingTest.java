@@ -0,0 +1,166 @@
+package com.mang.atdd.membership.app.common.shard;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddItem;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 샤드마다 서로 다른 H2 인메모리 DB 를 띄우고, 각 DB 에 직접 조회하여 저장 위치를 확인
+@SpringBootTest(properties = {
+        "spring.cache.type=none",
+        "membership.outbox.enabled=false",
+        "membership.datasource.sharding.enabled=true",
+        "membership.datasource.sharding.initialize-schema=true",
+        "membership.datasource.sharding.shards[0].name=shard0",
+        "membership.datasource.sharding.shards[0].driver-class-name=org.h2.Driver",
+        "membership.datasource.sharding.shards[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "membership.datasource.sharding.shards[0].username=h2test",
+        "membership.datasource.sharding.shards[0].password=h2test",
+        "membership.datasource.sharding.shards[1].name=shard1",
+        "membership.datasource.sharding.shards[1].driver-class-name=org.h2.Driver",
+        "membership.datasource.sharding.shards[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1",
+        "membership.datasource.sharding.shards[1].username=h2test",
+        "membership.datasource.sharding.shards[1].password=h2test",
+        "membership.datasource.sharding.shards[2].name=shard2",
+        "membership.datasource.sharding.shards[2].driver-class-name=org.h2.Driver",
+        "membership.datasource.sharding.shards[2].url=jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+        "membership.datasource.sharding.shards[2].username=h2test",
+        "membership.datasource.sharding.shards[2].password=h2test",
+})
+public class MembershipShardingTest {
+
+    @Autowired
+    private MembershipService membershipService;
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+    @Autowired
+    private ConsistentHashRing membershipShardRing;
+    @Autowired
+    private MembershipResharder membershipResharder;
+
+    @Test
+    public void 멤버십등록은사용자의샤드에만저장() {
+        // given
+        final String userId = "shardUserId";
+
+        // when
+        final MembershipAddResponse result = membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+
+        // then
+        for (final String shard : membershipShardRing.getShards()) {
+            assertThat(countById(shard, result.getId())).isEqualTo(shard.equals(membershipShardRing.locate(userId)) ? 1 : 0);
+        }
+        assertThat(membershipService.getMembership(result.getId(), userId).getPoint()).isEqualTo(10000);
+    }
+
+    @Test
+    public void 멤버십일괄등록은샤드별로나눠저장() {
+        // given
+        final List<MembershipBulkAddItem> items = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            items.add(MembershipBulkAddItem.builder()
+                    .userId("bulkShardUserId" + i)
+                    .membershipType(MembershipType.NAVER)
+                    .point(1000)
+                    .build());
+        }
+
+        // when
+        final List<MembershipAddResponse> result = membershipService.addMemberships(items);
+
+        // then
+        assertThat(result).hasSize(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            final String shard = membershipShardRing.locate(items.get(i).getUserId());
+            assertThat(countById(shard, result.get(i).getId())).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void 다른샤드에있는멤버십을옮김() {
+        // given
+        final String userId = "misplacedUserId";
+        final String ownerShard = membershipShardRing.locate(userId);
+        final String otherShard = membershipShardRing.getShards().stream()
+                .filter(shard -> !shard.equals(ownerShard))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        jdbcTemplate(otherShard).update("INSERT INTO membership (id, membership_type, user_id, point, created_at, version) " +
+                "VALUES (?, 'KAKAO', ?, 10000, CURRENT_TIMESTAMP, 0)", 1L, userId);
+
+        // when
+        final Map<String, Integer> result = membershipResharder.reshard();
+
+        // then
+        assertThat(result.get(otherShard)).isEqualTo(1);
+        assertThat(countById(otherShard, 1L)).isZero();
+        final List<MembershipDetailResponse> memberships = membershipService.getMembershipList(userId);
+        assertThat(memberships).extracting(MembershipDetailResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void 다른샤드사용자의멤버십은소유자가아님() {
+        // given
+        final String userId = "ownerShardUserId";
+        final Long membershipId = membershipService.addMembership(userId, MembershipType.NAVER, 10000).getId();
+        final String otherUserId = userOnOtherShard(membershipShardRing.locate(userId));
+
+        // when
+        final MembershipException getResult = assertThrows(MembershipException.class,
+                () -> membershipService.getMembership(membershipId, otherUserId));
+        final MembershipException removeResult = assertThrows(MembershipException.class,
+                () -> membershipService.removeMembership(membershipId, otherUserId));
+        final MembershipException accumulateResult = assertThrows(MembershipException.class,
+                () -> membershipService.accumulateMembershipPoint(membershipId, otherUserId, 10000));
+
+        // then
+        assertThat(getResult.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+        assertThat(removeResult.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+        assertThat(accumulateResult.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+    }
+
+    @Test
+    public void 어느샤드에도없는멤버십은존재하지않음() {
+        // given
+        final String userId = "notFoundShardUserId";
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class,
+                () -> membershipService.getMembership(-1L, userId));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+    }
+
+    private String userOnOtherShard(final String shard) {
+        for (int i = 0; ; i++) {
+            final String userId = "otherShardUserId" + i;
+            if (!shard.equals(membershipShardRing.locate(userId))) {
+                return userId;
+            }
+        }
+    }
+
+    private int countById(final String shard, final Long id) {
+        return jdbcTemplate(shard).queryForObject("SELECT COUNT(*) FROM membership WHERE id = ?", Integer.class, id);
+    }
+
+    private JdbcTemplate jdbcTemplate(final String shard) {
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shard));
+    }
+
+}
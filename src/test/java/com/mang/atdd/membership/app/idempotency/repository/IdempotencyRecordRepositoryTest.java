@@ -0,0 +1,45 @@
+package com.mang.atdd.membership.app.idempotency.repository;
+
+import com.mang.atdd.membership.app.idempotency.entity.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+public class IdempotencyRecordRepositoryTest {
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final String idempotencyKey = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void 처리결과기록() {
+        // when
+        idempotencyRecordRepository.insert(idempotencyKey, 204, null);
+
+        // then
+        final IdempotencyRecord result = idempotencyRecordRepository.findById(idempotencyKey).get();
+        assertThat(result.getStatusCode()).isEqualTo(204);
+        assertThat(result.getResponseBody()).isNull();
+    }
+
+    @Test
+    public void 같은키는한번만기록() {
+        // given
+        idempotencyRecordRepository.insert(idempotencyKey, 201, "{\"id\":1}");
+
+        // when
+        final DuplicateKeyException result = assertThrows(DuplicateKeyException.class,
+                () -> idempotencyRecordRepository.insert(idempotencyKey, 201, "{\"id\":2}"));
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(idempotencyRecordRepository.findById(idempotencyKey).get().getResponseBody()).isEqualTo("{\"id\":1}");
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.mang.atdd.membership.app.idempotency.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.idempotency.entity.IdempotencyRecord;
+import com.mang.atdd.membership.app.idempotency.repository.IdempotencyRecordRepository;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceTest {
+
+    private IdempotencyService target;
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final String operation = "userId:accumulate:-1";
+    private final String idempotencyKey = "key";
+    private final String recordKey = IdempotencyService.recordKey(operation, idempotencyKey);
+
+    @BeforeEach
+    public void init() {
+        target = new IdempotencyService(idempotencyRecordRepository, objectMapper, new IdempotencyWindow(600000L, 10, 1000), transactionManager, 86400000L);
+    }
+
+    @Test
+    public void 같은키재요청은한번만처리() {
+        // given
+        final AtomicInteger executeCount = new AtomicInteger();
+
+        // when
+        target.execute(operation, idempotencyKey, Void.class, () -> {
+            executeCount.incrementAndGet();
+            return ResponseEntity.noContent().build();
+        });
+        final ResponseEntity<Void> result = target.execute(operation, idempotencyKey, Void.class, () -> {
+            executeCount.incrementAndGet();
+            return ResponseEntity.noContent().build();
+        });
+
+        // then
+        assertThat(executeCount.get()).isEqualTo(1);
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        // verify
+        verify(idempotencyRecordRepository, times(1)).insert(recordKey, 204, null);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    public void 다른인스턴스가먼저기록한키는저장된결과반환() {
+        // given
+        doThrow(new DuplicateKeyException("duplicated")).when(idempotencyRecordRepository).insert(eq(recordKey), anyInt(), any());
+        doReturn(Optional.of(IdempotencyRecord.builder()
+                .idempotencyKey(recordKey)
+                .statusCode(201)
+                .responseBody("{\"id\":1,\"membershipType\":\"NAVER\"}")
+                .build())).when(idempotencyRecordRepository).findById(recordKey);
+
+        // when
+        final ResponseEntity<MembershipAddResponse> result = target.execute(operation, idempotencyKey, MembershipAddResponse.class, () ->
+                ResponseEntity.status(HttpStatus.CREATED).body(MembershipAddResponse.builder()
+                        .id(2L)
+                        .membershipType(MembershipType.KAKAO)
+                        .build()));
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(result.getBody().getId()).isEqualTo(1L);
+        assertThat(result.getBody().getMembershipType()).isEqualTo(MembershipType.NAVER);
+
+        // verify
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    public void 윈도우가지난재시도의실패는저장된결과반환() {
+        // given
+        doReturn(Optional.of(IdempotencyRecord.builder()
+                .idempotencyKey(recordKey)
+                .statusCode(201)
+                .responseBody("{\"id\":1,\"membershipType\":\"NAVER\"}")
+                .build())).when(idempotencyRecordRepository).findById(recordKey);
+
+        // when
+        final ResponseEntity<MembershipAddResponse> result = target.execute(operation, idempotencyKey, MembershipAddResponse.class, () -> {
+            throw new MembershipException(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
+        });
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(result.getBody().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    public void 처리중인키는충돌() {
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () ->
+                target.execute(operation, idempotencyKey, Void.class, () -> target.execute(operation, idempotencyKey, Void.class, () -> ResponseEntity.noContent().build())));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+
+    @Test
+    public void 헤더가너무길면실패() {
+        // given
+        final StringBuilder longKey = new StringBuilder();
+        while (longKey.length() <= IdempotencyService.KEY_MAX_LENGTH) {
+            longKey.append("key");
+        }
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () ->
+                target.execute(operation, longKey.toString(), Void.class, () -> ResponseEntity.noContent().build()));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.INVALID_IDEMPOTENCY_KEY);
+
+        // verify
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    public void 영속키길이는사용자id와관계없이고정() {
+        // given
+        final StringBuilder longUserId = new StringBuilder();
+        while (longUserId.length() <= IdempotencyService.KEY_MAX_LENGTH) {
+            longUserId.append("userId");
+        }
+
+        // when
+        final String result = IdempotencyService.recordKey(longUserId + ":accumulate:-1", idempotencyKey);
+
+        // then
+        assertThat(result).hasSize(IdempotencyRecord.KEY_LENGTH);
+        assertThat(result).isNotEqualTo(recordKey);
+    }
+
+    @Test
+    public void 실패한요청은다시처리() {
+        // given
+        assertThrows(MembershipException.class, () -> target.execute(operation, idempotencyKey, Void.class, () -> {
+            throw new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        }));
+
+        // when
+        final ResponseEntity<Void> result = target.execute(operation, idempotencyKey, Void.class, () -> ResponseEntity.noContent().build());
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        // verify
+        verify(idempotencyRecordRepository, times(1)).insert(recordKey, 204, null);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.mang.atdd.membership.app.idempotency.service;
+
+import com.mang.atdd.membership.app.idempotency.dto.IdempotentResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyWindowTest {
+
+    private final IdempotencyWindow target = new IdempotencyWindow(10000L, 10, 20);
+    private final IdempotentResponse response = new IdempotentResponse(204, null);
+
+    @Test
+    public void 윈도우내에서는조회됨() {
+        // given
+        target.put("key", response, 0L);
+
+        // when
+        final IdempotentResponse result = target.get("key", 9999L);
+
+        // then
+        assertThat(result).isSameAs(response);
+    }
+
+    @Test
+    public void 윈도우가지나면만료됨() {
+        // given
+        target.put("key", response, 0L);
+
+        // when
+        final IdempotentResponse result = target.get("key", 10000L);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void 이미있는키는기존값반환() {
+        // given
+        target.putIfAbsent("key", IdempotentResponse.IN_PROGRESS, 0L);
+
+        // when
+        final IdempotentResponse result = target.putIfAbsent("key", response, 5000L);
+
+        // then
+        assertThat(result.isInProgress()).isTrue();
+    }
+
+    @Test
+    public void 버킷최대건수를넘으면저장안함() {
+        // given
+        target.put("key1", response, 0L);
+        target.put("key2", response, 0L);
+
+        // when
+        target.put("key3", response, 0L);
+
+        // then
+        assertThat(target.get("key3", 0L)).isNull();
+    }
+
+}
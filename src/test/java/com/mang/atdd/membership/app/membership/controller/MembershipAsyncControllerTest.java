@@ -0,0 +1,107 @@
+package com.mang.atdd.membership.app.membership.controller;
+
+import com.google.gson.Gson;
+import com.mang.atdd.membership.app.common.GlobalExceptionHandler;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipRequest;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class MembershipAsyncControllerTest {
+
+    @Mock
+    private MembershipController membershipController;
+    @Mock
+    private MembershipService membershipService;
+
+    private final Gson gson = new Gson();
+
+    @Test
+    public void 멤버십상세조회성공() throws Exception {
+        // given
+        final MockMvc mockMvc = mockMvc(new MembershipAsyncController(membershipController, membershipService, Runnable::run));
+        doReturn(MembershipDetailResponse.builder()
+                .id(-1L)
+                .membershipType(MembershipType.NAVER)
+                .point(10000)
+                .build()).when(membershipService).getMembership(-1L, "12345");
+
+        // when
+        final MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/api/v1/async/memberships/-1")
+                        .header(USER_ID_HEADER, "12345")
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.membershipType").value("NAVER"));
+    }
+
+    @Test
+    public void 멤버십상세조회실패_존재하지않음() throws Exception {
+        // given
+        final MockMvc mockMvc = mockMvc(new MembershipAsyncController(membershipController, membershipService, Runnable::run));
+        doThrow(new MembershipException(MembershipErrorResult.MEMBERSHIP_NOT_FOUND))
+                .when(membershipService).getMembership(-1L, "12345");
+
+        // when
+        final MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get("/api/v1/async/memberships/-1")
+                        .header(USER_ID_HEADER, "12345")
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void 멤버십적립실패_실행기가가득참() throws Exception {
+        // given
+        final MockMvc mockMvc = mockMvc(new MembershipAsyncController(membershipController, membershipService, command -> {
+            throw new RejectedExecutionException();
+        }));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/v1/async/memberships/-1/accumulate")
+                        .header(USER_ID_HEADER, "12345")
+                        .content(gson.toJson(MembershipRequest.builder().point(10000).build()))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isServiceUnavailable());
+    }
+
+    private MockMvc mockMvc(final MembershipAsyncController target) {
+        return MockMvcBuilders.standaloneSetup(target)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.mang.atdd.membership.app.membership.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import com.mang.atdd.membership.app.common.GlobalExceptionHandler;
 import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.idempotency.service.IdempotencyService;
 import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipPageResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
 import com.mang.atdd.membership.exception.MembershipErrorResult;
 import com.mang.atdd.membership.exception.MembershipException;
 import com.mang.atdd.membership.app.membership.dto.MembershipRequest;
 import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddItem;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddRequest;
 import com.mang.atdd.membership.app.membership.service.MembershipService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,22 +24,45 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.IDEMPOTENCY_KEY_HEADER;
 import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.USER_ID_HEADER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +73,10 @@ public class MembershipControllerTest {
 
     @Mock
     private MembershipService membershipService;
+    @Spy
+    private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    @Mock
+    private IdempotencyService idempotencyService;
 
     private MockMvc mockMvc;
     private Gson gson;
@@ -106,6 +139,51 @@ public class MembershipControllerTest {
         resultActions.andExpect(status().isNoContent());
     }
 
+    @Test
+    public void 멤버십적립성공_멱등키재요청은저장된결과반환() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/-1/accumulate";
+        doReturn(ResponseEntity.noContent().build())
+                .when(idempotencyService)
+                .execute(eq("12345:accumulate:-1"), eq("idempotencyKey"), eq(Void.class), any());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .header(IDEMPOTENCY_KEY_HEADER, "idempotencyKey")
+                        .content(gson.toJson(membershipRequest(10000)))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isNoContent());
+
+        // verify
+        verify(membershipService, never()).accumulateMembershipPoint(any(), any(), anyInt());
+    }
+
+    @Test
+    public void 멤버십적립실패_같은멱등키처리중() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/-1/accumulate";
+        doThrow(new MembershipException(MembershipErrorResult.IDEMPOTENT_REQUEST_IN_PROGRESS))
+                .when(idempotencyService)
+                .execute(eq("12345:accumulate:-1"), eq("idempotencyKey"), eq(Void.class), any());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .header(IDEMPOTENCY_KEY_HEADER, "idempotencyKey")
+                        .content(gson.toJson(membershipRequest(10000)))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isConflict());
+    }
+
     @Test
     public void 멤버십삭제실패_사용자식별값이헤더에없음() throws Exception {
         // given
@@ -186,6 +264,74 @@ public class MembershipControllerTest {
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    public void 멤버십상세조회성공_ETag응답() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/-1";
+        final MembershipVersion version = new MembershipVersion(1L, LocalDateTime.now(), 3L);
+        doReturn(Optional.of(version)).when(membershipService).getMembershipVersion(-1L, "12345");
+        // 버전 조회보다 먼저 캐시된 본문
+        final MembershipDetailResponse membership = MembershipDetailResponse.builder()
+                .updatedAt(LocalDateTime.now().minusMinutes(1))
+                .version(2L)
+                .build();
+        doReturn(membership).when(membershipService).getMembership(-1L, "12345");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"0-0-0\"")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, MembershipVersion.of(membership).getETag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    public void 멤버십상세조회_변경없음() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/-1";
+        final MembershipVersion version = new MembershipVersion(1L, LocalDateTime.now(), 3L);
+        doReturn(Optional.of(version)).when(membershipService).getMembershipVersion(-1L, "12345");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag())
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified());
+
+        // verify
+        verify(membershipService, never()).getMembership(-1L, "12345");
+    }
+
+    @Test
+    public void 멤버십목록조회_변경없음() throws Exception {
+        // given
+        final String url = "/api/v1/memberships";
+        final MembershipVersion version = new MembershipVersion(2L, LocalDateTime.now(), 5L);
+        doReturn(Optional.of(version)).when(membershipService).getMembershipListVersion("12345");
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag())
+        );
+
+        // then
+        resultActions.andExpect(status().isNotModified());
+
+        // verify
+        verify(membershipService, never()).getMembershipList("12345");
+    }
+
     @Test
     public void 멤버십목록조회실패_사용자식별값이헤더에없음() throws Exception {
         // given
@@ -220,6 +366,88 @@ public class MembershipControllerTest {
         resultActions.andExpect(status().isOk());
     }
 
+    @Test
+    public void 멤버십페이지조회성공() throws Exception {
+        // given
+        final String url = "/api/v1/memberships";
+        doReturn(MembershipPageResponse.builder()
+                .memberships(Arrays.asList(
+                        MembershipDetailResponse.builder().id(1L).build(),
+                        MembershipDetailResponse.builder().id(2L).build()))
+                .nextCursor(2L)
+                .build()
+        ).when(membershipService).getMembershipPage("12345", 0L, 2);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .param("limit", "2")
+                        .param("after", "0")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk());
+
+        final MembershipPageResponse response = gson.fromJson(resultActions.andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8), MembershipPageResponse.class);
+
+        assertThat(response.getMemberships()).hasSize(2);
+        assertThat(response.getNextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    public void 멤버십페이지조회성공_최대크기로제한() throws Exception {
+        // given
+        final String url = "/api/v1/memberships";
+        doReturn(MembershipPageResponse.builder().memberships(Collections.emptyList()).build())
+                .when(membershipService).getMembershipPage("12345", null, 100);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .param("limit", "100000")
+        );
+
+        // then
+        resultActions.andExpect(status().isOk());
+    }
+
+    @Test
+    public void 멤버십스트리밍조회성공() throws Exception {
+        // given
+        final String url = "/api/v1/memberships";
+        doAnswer(invocation -> {
+            final Consumer<MembershipDetailResponse> consumer = invocation.getArgument(1);
+            consumer.accept(MembershipDetailResponse.builder().id(1L).membershipType(MembershipType.NAVER).build());
+            consumer.accept(MembershipDetailResponse.builder().id(2L).membershipType(MembershipType.KAKAO).build());
+            return null;
+        }).when(membershipService).streamMembershipList(eq("12345"), any());
+
+        // when
+        final MvcResult mvcResult = mockMvc.perform(
+                MockMvcRequestBuilders.get(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .accept("application/x-ndjson")
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        final ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        final String[] lines = resultActions.andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(gson.fromJson(lines[1], MembershipDetailResponse.class).getMembershipType()).isEqualTo(MembershipType.KAKAO);
+    }
+
     @Test
     public void 멤버십등록실패_사용자식별값이헤더에없음() throws Exception {
         // given
@@ -303,6 +531,100 @@ public class MembershipControllerTest {
         assertThat(response.getId()).isNotNull();
     }
 
+    @Test
+    public void 멤버십등록성공_id는문자열로응답() throws Exception {
+        // given
+        final String url = "/api/v1/memberships";
+        final MembershipAddResponse membershipResponse = MembershipAddResponse.builder()
+                .id(1234567890123456789L)
+                .membershipType(MembershipType.NAVER).build();
+
+        doReturn(membershipResponse).when(membershipService).addMembership("12345", MembershipType.NAVER, 10000);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .header(USER_ID_HEADER, "12345")
+                        .content(gson.toJson(membershipRequest(10000, MembershipType.NAVER)))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value("1234567890123456789"));
+    }
+
+    @Test
+    public void 멤버십일괄등록실패_목록이비어있음() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/bulk";
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(MembershipBulkAddRequest.builder().memberships(Collections.emptyList()).build()))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void 멤버십일괄등록실패_사용자식별값이없음() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/bulk";
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(membershipBulkAddRequest(null, 10000, MembershipType.NAVER)))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void 멤버십일괄등록성공() throws Exception {
+        // given
+        final String url = "/api/v1/memberships/bulk";
+        doReturn(Arrays.asList(
+                MembershipAddResponse.builder().id(-1L).membershipType(MembershipType.NAVER).build(),
+                MembershipAddResponse.builder().membershipType(MembershipType.NAVER).build()
+        )).when(membershipService).addMemberships(anyList());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(
+                MockMvcRequestBuilders.post(url)
+                        .content(gson.toJson(membershipBulkAddRequest("12345", 10000, MembershipType.NAVER)))
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions.andExpect(status().isCreated());
+
+        final MembershipAddResponse[] response = gson.fromJson(resultActions.andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8), MembershipAddResponse[].class);
+
+        assertThat(response).hasSize(2);
+        assertThat(response[0].getId()).isEqualTo(-1L);
+        assertThat(response[1].getId()).isNull();
+    }
+
+    private MembershipBulkAddRequest membershipBulkAddRequest(final String userId, final Integer point, final MembershipType membershipType) {
+        final List<MembershipBulkAddItem> memberships = Arrays.asList(
+                MembershipBulkAddItem.builder().userId(userId).point(point).membershipType(membershipType).build(),
+                MembershipBulkAddItem.builder().userId(userId).point(point).membershipType(membershipType).build()
+        );
+
+        return MembershipBulkAddRequest.builder()
+                .memberships(memberships)
+                .build();
+    }
+
     private MembershipRequest membershipRequest(final Integer point, final MembershipType membershipType) {
         return MembershipRequest.builder()
                 .point(point)
@@ -1,15 +1,26 @@
 package com.mang.atdd.membership.app.membership.repository;
 
 import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
 import com.mang.atdd.membership.app.membership.entity.Membership;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @Transactional
@@ -17,6 +28,8 @@ public class MembershipRepositoryTest {
 
     @Autowired
     private MembershipRepository membershipRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
 
     @Test
     public void 멤버십추가후삭제() {
@@ -90,6 +103,27 @@ public class MembershipRepositoryTest {
         assertThat(result.getPoint()).isEqualTo(10000);
     }
 
+    @Test
+    public void 멤버십중복등록_유니크제약위반() {
+        // given
+        membershipRepository.saveAndFlush(Membership.builder()
+                .userId("userId")
+                .membershipType(MembershipType.NAVER)
+                .point(10000)
+                .build());
+
+        final Membership duplicatedMembership = Membership.builder()
+                .userId("userId")
+                .membershipType(MembershipType.NAVER)
+                .point(5000)
+                .build();
+
+        // when
+        assertThrows(DataIntegrityViolationException.class, () -> membershipRepository.saveAndFlush(duplicatedMembership));
+
+        // then
+    }
+
     @Test
     public void 멤버십이존재하는지테스트() {
         // given
@@ -111,4 +145,184 @@ public class MembershipRepositoryTest {
         assertThat(findResult.getPoint()).isEqualTo(10000);
     }
 
+    @Test
+    public void 멤버십일괄등록() {
+        // given
+        final List<Membership> memberships = Arrays.asList(
+                Membership.builder().id(1L).userId("userId").membershipType(MembershipType.NAVER).point(10000).build(),
+                Membership.builder().id(2L).userId("userId").membershipType(MembershipType.KAKAO).point(10000).build(),
+                Membership.builder().id(3L).userId("otherUserId").membershipType(MembershipType.LINE).point(5000).build()
+        );
+
+        // when
+        membershipRepository.insertAll(memberships);
+        final List<Membership> result = membershipRepository.findAllByUserIdIn(Arrays.asList("userId", "otherUserId"));
+
+        // then
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result).allSatisfy(v -> {
+            assertThat(v.getId()).isNotNull();
+            assertThat(v.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    public void 멤버십포인트일괄적립() {
+        // given
+        final Membership membership = membershipRepository.save(Membership.builder()
+                .userId("userId")
+                .membershipType(MembershipType.NAVER)
+                .point(10000)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        membershipRepository.accumulatePoints(Collections.singletonMap(membership.getId(), 300L));
+        final Membership result = membershipRepository.findAllByUserId("userId").get(0);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(10300);
+    }
+
+    @Test
+    public void 멤버십페이지조회_커서이후만조회() {
+        // given
+        final Membership naverMembership = membershipRepository.save(membership(MembershipType.NAVER));
+        final Membership kakaoMembership = membershipRepository.save(membership(MembershipType.KAKAO));
+        final Membership lineMembership = membershipRepository.save(membership(MembershipType.LINE));
+
+        // when
+        final List<MembershipDetailResponse> result = membershipRepository.findDetailPageByUserId(
+                "userId", naverMembership.getId(), PageRequest.of(0, 1));
+
+        // then
+        assertThat(result).extracting(MembershipDetailResponse::getId).containsExactly(kakaoMembership.getId());
+        assertThat(lineMembership.getId()).isGreaterThan(kakaoMembership.getId());
+    }
+
+    @Test
+    public void 멤버십스트리밍조회() {
+        // given
+        membershipRepository.save(membership(MembershipType.NAVER));
+        membershipRepository.save(membership(MembershipType.KAKAO));
+
+        // when
+        final List<MembershipType> result;
+        try (final Stream<MembershipDetailResponse> membershipStream = membershipRepository.streamAllDetailByUserId("userId")) {
+            result = membershipStream.map(MembershipDetailResponse::getMembershipType).collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(result).containsExactly(MembershipType.NAVER, MembershipType.KAKAO);
+    }
+
+    @Test
+    public void 멤버십상세조회_프로젝션() {
+        // given
+        final Membership membership = membershipRepository.save(membership(MembershipType.NAVER));
+
+        // when
+        final Optional<MembershipDetailResponse> result = membershipRepository.findDetailByIdAndUserId(membership.getId(), "userId");
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(membership.getId());
+        assertThat(result.get().getMembershipType()).isEqualTo(MembershipType.NAVER);
+        assertThat(result.get().getPoint()).isEqualTo(10000);
+        assertThat(result.get().getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    public void 멤버십상세조회_프로젝션_본인이아님() {
+        // given
+        final Membership membership = membershipRepository.save(membership(MembershipType.NAVER));
+
+        // when
+        final Optional<MembershipDetailResponse> result = membershipRepository.findDetailByIdAndUserId(membership.getId(), "notowner");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void 멤버십본인확인후삭제() {
+        // given
+        final Membership membership = membershipRepository.saveAndFlush(membership(MembershipType.NAVER));
+
+        // when
+        final int notOwnerResult = membershipRepository.deleteByIdAndUserId(membership.getId(), "notowner");
+        final int result = membershipRepository.deleteByIdAndUserId(membership.getId(), "userId");
+
+        // then
+        assertThat(notOwnerResult).isZero();
+        assertThat(result).isEqualTo(1);
+        assertThat(membershipRepository.existsById(membership.getId())).isFalse();
+    }
+
+    @Test
+    public void 멤버십버전조회_삭제하면변경() {
+        // given
+        final Membership naverMembership = membershipRepository.saveAndFlush(membership(MembershipType.NAVER));
+        membershipRepository.saveAndFlush(membership(MembershipType.KAKAO));
+        final MembershipVersion before = membershipRepository.findListVersionByUserId("userId");
+
+        // when
+        membershipRepository.deleteByIdAndUserId(naverMembership.getId(), "userId");
+        final MembershipVersion result = membershipRepository.findListVersionByUserId("userId");
+
+        // then
+        assertThat(before.getCount()).isEqualTo(2);
+        assertThat(before.getLastModifiedAt()).isNotNull();
+        assertThat(result.getCount()).isEqualTo(1);
+        assertThat(result.getETag()).isNotEqualTo(before.getETag());
+    }
+
+    @Test
+    public void 멤버십버전조회_본인이아님() {
+        // given
+        final Membership membership = membershipRepository.saveAndFlush(membership(MembershipType.NAVER));
+
+        // when
+        final MembershipVersion result = membershipRepository.findVersionByIdAndUserId(membership.getId(), "notowner");
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void 멤버십버전조회_본문으로계산한버전과같음() {
+        // given
+        membershipRepository.saveAndFlush(membership(MembershipType.NAVER));
+        membershipRepository.saveAndFlush(membership(MembershipType.KAKAO));
+
+        // when
+        final MembershipVersion result = MembershipVersion.of(membershipRepository.findAllDetailByUserId("userId"));
+
+        // then
+        assertThat(result.getETag()).isEqualTo(membershipRepository.findListVersionByUserId("userId").getETag());
+    }
+
+    @Test
+    public void 멤버십목록조회_프로젝션() {
+        // given
+        membershipRepository.save(membership(MembershipType.NAVER));
+        membershipRepository.save(membership(MembershipType.KAKAO));
+
+        // when
+        final List<MembershipDetailResponse> result = membershipRepository.findAllDetailByUserId("userId");
+
+        // then
+        assertThat(result).extracting(MembershipDetailResponse::getMembershipType)
+                .containsExactlyInAnyOrder(MembershipType.NAVER, MembershipType.KAKAO);
+    }
+
+    private Membership membership(final MembershipType membershipType) {
+        return Membership.builder()
+                .userId("userId")
+                .membershipType(membershipType)
+                .point(10000)
+                .build();
+    }
+
 }
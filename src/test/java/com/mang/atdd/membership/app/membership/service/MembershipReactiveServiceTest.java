@@ -0,0 +1,126 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+public class MembershipReactiveServiceTest {
+
+    @Autowired
+    private MembershipReactiveService target;
+
+    @Test
+    public void 멤버십등록후상세조회() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        final MembershipAddResponse membership = target.addMembership(userId, MembershipType.NAVER, 10000).block();
+
+        // when
+        // then
+        StepVerifier.create(target.getMembership(membership.getId(), userId))
+                .assertNext(result -> {
+                    assertThat(result.getMembershipType()).isEqualTo(MembershipType.NAVER);
+                    assertThat(result.getPoint()).isEqualTo(10000);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void 멤버십등록실패_이미존재함() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        target.addMembership(userId, MembershipType.NAVER, 10000).block();
+
+        // when
+        // then
+        StepVerifier.create(target.addMembership(userId, MembershipType.NAVER, 10000))
+                .expectErrorSatisfies(e -> assertThat(((MembershipException) e).getErrorResult())
+                        .isEqualTo(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER))
+                .verify();
+    }
+
+    @Test
+    public void 멤버십상세조회실패_본인이아님() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        final MembershipAddResponse membership = target.addMembership(userId, MembershipType.NAVER, 10000).block();
+
+        // when
+        // then
+        StepVerifier.create(target.getMembership(membership.getId(), "notowner"))
+                .expectErrorSatisfies(e -> assertThat(((MembershipException) e).getErrorResult())
+                        .isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER))
+                .verify();
+    }
+
+    @Test
+    public void 멤버십목록조회() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        target.addMembership(userId, MembershipType.NAVER, 10000).block();
+        target.addMembership(userId, MembershipType.KAKAO, 10000).block();
+
+        // when
+        // then
+        StepVerifier.create(target.getMembershipList(userId))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    public void 멤버십적립성공() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        final MembershipAddResponse membership = target.addMembership(userId, MembershipType.NAVER, 10000).block();
+
+        // when
+        target.accumulateMembershipPoint(membership.getId(), userId, 10000).block();
+
+        // then
+        StepVerifier.create(target.getMembership(membership.getId(), userId))
+                .assertNext(result -> assertThat(result.getPoint()).isEqualTo(10100))
+                .verifyComplete();
+    }
+
+    @Test
+    public void 멤버십삭제실패_존재하지않음() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+
+        // when
+        // then
+        StepVerifier.create(target.removeMembership(-1L, userId))
+                .expectErrorSatisfies(e -> assertThat(((MembershipException) e).getErrorResult())
+                        .isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND))
+                .verify();
+    }
+
+    @Test
+    public void 멤버십삭제성공() {
+        // given
+        final String userId = UUID.randomUUID().toString();
+        final MembershipAddResponse membership = target.addMembership(userId, MembershipType.NAVER, 10000).block();
+
+        // when
+        target.removeMembership(membership.getId(), userId).block();
+
+        // then
+        StepVerifier.create(target.getMembership(membership.getId(), userId))
+                .expectErrorSatisfies(e -> assertThat(((MembershipException) e).getErrorResult())
+                        .isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND))
+                .verify();
+    }
+
+}
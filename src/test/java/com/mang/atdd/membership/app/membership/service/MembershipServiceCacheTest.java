@@ -0,0 +1,118 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_LIST_VERSION_CACHE;
+import static com.mang.atdd.membership.app.membership.constants.MembershipConstants.MEMBERSHIP_TYPE_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class MembershipServiceCacheTest {
+
+    @Autowired
+    private MembershipService membershipService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    public void 멤버십목록조회_캐시적중() {
+        // given
+        final String userId = "cacheListUserId";
+        membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        final long hitCount = stats(MEMBERSHIP_LIST_CACHE).hitCount();
+
+        // when
+        membershipService.getMembershipList(userId);
+        final List<MembershipDetailResponse> result = membershipService.getMembershipList(userId);
+
+        // then
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(stats(MEMBERSHIP_LIST_CACHE).hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    public void 멤버십등록_목록캐시무효화() {
+        // given
+        final String userId = "cacheAddUserId";
+        membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        membershipService.getMembershipList(userId);
+
+        // when
+        membershipService.addMembership(userId, MembershipType.KAKAO, 10000);
+        final List<MembershipDetailResponse> result = membershipService.getMembershipList(userId);
+
+        // then
+        assertThat(result.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void 멤버십적립_상세캐시무효화() {
+        // given
+        final String userId = "cacheAccumulateUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        membershipService.getMembership(membership.getId(), userId);
+
+        // when
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+        final MembershipDetailResponse result = membershipService.getMembership(membership.getId(), userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(10100);
+        assertThat(cacheManager.getCache(MEMBERSHIP_CACHE).get(membership.getId() + ":" + userId)).isNotNull();
+    }
+
+    @Test
+    public void 멤버십적립_타입캐시적중후삭제시무효화() {
+        // given
+        final String userId = "cacheTypeUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+        final long hitCount = stats(MEMBERSHIP_TYPE_CACHE).hitCount();
+
+        // when
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+        membershipService.removeMembership(membership.getId(), userId);
+
+        // then
+        assertThat(stats(MEMBERSHIP_TYPE_CACHE).hitCount()).isEqualTo(hitCount + 1);
+        assertThat(cacheManager.getCache(MEMBERSHIP_TYPE_CACHE).get(membership.getId() + ":" + userId)).isNull();
+    }
+
+    @Test
+    public void 멤버십버전조회_캐시적중후적립시무효화() {
+        // given
+        final String userId = "cacheVersionUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        final Optional<MembershipVersion> before = membershipService.getMembershipListVersion(userId);
+        final long hitCount = stats(MEMBERSHIP_LIST_VERSION_CACHE).hitCount();
+
+        // when
+        final Optional<MembershipVersion> cached = membershipService.getMembershipListVersion(userId);
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+        final Optional<MembershipVersion> result = membershipService.getMembershipListVersion(userId);
+
+        // then
+        assertThat(stats(MEMBERSHIP_LIST_VERSION_CACHE).hitCount()).isEqualTo(hitCount + 1);
+        assertThat(cached.get().getETag()).isEqualTo(before.get().getETag());
+        assertThat(result.get().getETag()).isNotEqualTo(before.get().getETag());
+    }
+
+    private CacheStats stats(final String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.mang.atdd.membership.app.membership.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class MembershipServiceConcurrencyTest {
+
+    @Autowired
+    private MembershipService membershipService;
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Test
+    public void 멤버십동시적립_유실없음() throws InterruptedException {
+        // given
+        final String userId = "concurrencyUserId";
+        final int threadCount = 32;
+        final int requestCount = 5000;
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 0);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch latch = new CountDownLatch(requestCount);
+        final AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+                } catch (final RuntimeException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        final boolean completed = latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(failCount.get()).isZero();
+        assertThat(membershipRepository.findById(membership.getId()).get().getPoint()).isEqualTo(requestCount * 100);
+    }
+
+}
@@ -1,21 +1,31 @@
 package com.mang.atdd.membership.app.membership.service;
 
+import com.mang.atdd.membership.app.common.id.SnowflakeIdGenerator;
 import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipBulkAddItem;
 import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
-import com.mang.atdd.membership.app.point.service.RatePointService;
+import com.mang.atdd.membership.app.membership.dto.MembershipPageResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipVersion;
+import com.mang.atdd.membership.app.point.accumulator.PointAccumulator;
+import com.mang.atdd.membership.app.point.service.PointService;
 import com.mang.atdd.membership.exception.MembershipErrorResult;
 import com.mang.atdd.membership.exception.MembershipException;
 import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
 import com.mang.atdd.membership.app.membership.entity.Membership;
 import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,7 +41,13 @@ public class MembershipServiceTest {
     @Mock
     private MembershipRepository membershipRepository;
     @Mock
-    private RatePointService ratePointService;
+    private PointService pointService;
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private PointAccumulator pointAccumulator;
+    @Mock
+    private SnowflakeIdGenerator idGenerator;
+    @Mock
+    private OutboxService outboxService;
 
     private final String userId = "userId";
     private final MembershipType membershipType = MembershipType.NAVER;
@@ -41,7 +57,8 @@ public class MembershipServiceTest {
     @Test
     public void 멤버십적립실패_존재하지않음() {
         // given
-        doReturn(Optional.empty()).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.empty()).when(membershipRepository).findMembershipTypeByIdAndUserId(membershipId, userId);
+        doReturn(false).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulateMembershipPoint(membershipId, userId, 10000));
@@ -53,8 +70,8 @@ public class MembershipServiceTest {
     @Test
     public void 멤버십적립실패_본인이아님() {
         // given
-        final Membership membership = membership();
-        doReturn(Optional.of(membership)).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.empty()).when(membershipRepository).findMembershipTypeByIdAndUserId(membershipId, "notowner");
+        doReturn(true).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulateMembershipPoint(membershipId, "notowner", 10000));
@@ -66,19 +83,23 @@ public class MembershipServiceTest {
     @Test
     public void 멤버십적립성공() {
         // given
-        final Membership membership = membership();
-        doReturn(Optional.of(membership)).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.of(MembershipType.NAVER)).when(membershipRepository).findMembershipTypeByIdAndUserId(membershipId, userId);
+        doReturn(100).when(pointService).calculateAmount(MembershipType.NAVER, 10000);
 
         // when
         target.accumulateMembershipPoint(membershipId, userId, 10000);
 
         // then
+
+        // verify
+        verify(pointAccumulator, times(1)).accumulate(membershipId, userId, 100);
     }
 
     @Test
     public void 멤버십삭제실패_존재하지않음() {
         // given
-        doReturn(Optional.empty()).when(membershipRepository).findById(membershipId);
+        doReturn(0).when(membershipRepository).deleteByIdAndUserId(membershipId, userId);
+        doReturn(false).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.removeMembership(membershipId, userId));
@@ -90,32 +111,39 @@ public class MembershipServiceTest {
     @Test
     public void 멤버십삭제실패_본인이아님() {
         // given
-        final Membership membership = membership();
-        doReturn(Optional.of(membership)).when(membershipRepository).findById(membershipId);
+        doReturn(0).when(membershipRepository).deleteByIdAndUserId(membershipId, "notowner");
+        doReturn(true).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.removeMembership(membershipId, "notowner"));
 
         // then
         assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+
+        // verify
+        verify(outboxService, never()).membershipRemoved(membershipId, "notowner");
     }
 
     @Test
     public void 멤버십삭제성공() {
         // given
-        final Membership membership = membership();
-        doReturn(Optional.of(membership)).when(membershipRepository).findById(membershipId);
+        doReturn(1).when(membershipRepository).deleteByIdAndUserId(membershipId, userId);
 
         // when
         target.removeMembership(membershipId, userId);
 
         // then
+
+        // verify
+        verify(membershipRepository, never()).existsByIdInAnyShard(membershipId);
+        verify(outboxService, times(1)).membershipRemoved(membershipId, userId);
     }
 
     @Test
     public void 멤버십상세조회실패_존재하지않음() {
         // given
-        doReturn(Optional.empty()).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.empty()).when(membershipRepository).findDetailByIdAndUserId(membershipId, userId);
+        doReturn(false).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.getMembership(membershipId, userId));
@@ -127,19 +155,20 @@ public class MembershipServiceTest {
     @Test
     public void 멤버십상세조회실패_본인이아님() {
         // given
-        doReturn(Optional.empty()).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.empty()).when(membershipRepository).findDetailByIdAndUserId(membershipId, "notowner");
+        doReturn(true).when(membershipRepository).existsByIdInAnyShard(membershipId);
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.getMembership(membershipId, "notowner"));
 
         // then
-        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
     }
 
     @Test
     public void 멤버십상세조회성공() {
         // given
-        doReturn(Optional.of(membership())).when(membershipRepository).findById(membershipId);
+        doReturn(Optional.of(detailResponse(membershipId))).when(membershipRepository).findDetailByIdAndUserId(membershipId, userId);
 
         // when
         final MembershipDetailResponse result = target.getMembership(membershipId, userId);
@@ -149,14 +178,40 @@ public class MembershipServiceTest {
         assertThat(result.getPoint()).isEqualTo(point);
     }
 
+    @Test
+    public void 멤버십버전조회() {
+        // given
+        final MembershipVersion version = new MembershipVersion(1L, LocalDateTime.now(), 0L);
+        doReturn(version).when(membershipRepository).findVersionByIdAndUserId(membershipId, userId);
+
+        // when
+        final Optional<MembershipVersion> result = target.getMembershipVersion(membershipId, userId);
+
+        // then
+        assertThat(result).containsSame(version);
+    }
+
+    @Test
+    public void 멤버십버전조회_미반영적립분이있으면생략() {
+        // given
+        doReturn(new MembershipVersion(1L, LocalDateTime.now(), 0L)).when(membershipRepository).findListVersionByUserId(userId);
+        doReturn(true).when(pointAccumulator).hasPendingByUserId(userId);
+
+        // when
+        final Optional<MembershipVersion> result = target.getMembershipListVersion(userId);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     @Test
     public void 멤버십목록조회() {
         // given
         doReturn(Arrays.asList(
-                Membership.builder().build(),
-                Membership.builder().build(),
-                Membership.builder().build()
-        )).when(membershipRepository).findAllByUserId(userId);
+                detailResponse(1L),
+                detailResponse(2L),
+                detailResponse(3L)
+        )).when(membershipRepository).findAllDetailByUserId(userId);
 
         // when
         final List<MembershipDetailResponse> result = target.getMembershipList(userId);
@@ -165,10 +220,64 @@ public class MembershipServiceTest {
         assertThat(result.size()).isEqualTo(3);
     }
 
+    @Test
+    public void 멤버십목록조회_미반영적립분은한번에조회() {
+        // given
+        doReturn(Arrays.asList(
+                detailResponse(1L),
+                detailResponse(2L)
+        )).when(membershipRepository).findAllDetailByUserId(userId);
+        doReturn(Collections.singletonMap(2L, 300L)).when(pointAccumulator).getPendingByUserId(userId);
+
+        // when
+        final List<MembershipDetailResponse> result = target.getMembershipList(userId);
+
+        // then
+        assertThat(result).extracting(MembershipDetailResponse::getPoint).containsExactly(point, point + 300);
+
+        // verify
+        verify(pointAccumulator, times(1)).getPendingByUserId(userId);
+        verify(pointAccumulator, never()).applyPending(any(), any());
+    }
+
+    @Test
+    public void 멤버십페이지조회_다음페이지있음() {
+        // given
+        doReturn(Arrays.asList(
+                detailResponse(1L),
+                detailResponse(2L),
+                detailResponse(3L)
+        )).when(membershipRepository).findDetailPageByUserId(userId, 0L, PageRequest.of(0, 3));
+
+        // when
+        final MembershipPageResponse result = target.getMembershipPage(userId, 0L, 2);
+
+        // then
+        assertThat(result.getMemberships()).extracting(MembershipDetailResponse::getId).containsExactly(1L, 2L);
+        assertThat(result.getNextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    public void 멤버십페이지조회_마지막페이지() {
+        // given
+        doReturn(Collections.singletonList(
+                detailResponse(1L)
+        )).when(membershipRepository).findDetailPageByUserId(userId, Long.MIN_VALUE, PageRequest.of(0, 3));
+
+        // when
+        final MembershipPageResponse result = target.getMembershipPage(userId, null, 2);
+
+        // then
+        assertThat(result.getMemberships()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     @Test
     public void 멤버십등록실패_이미존재함() {
         // given
-        doReturn(Membership.builder().build()).when(membershipRepository).findByUserIdAndMembershipType(userId, membershipType);
+        doThrow(new DataIntegrityViolationException("uk_membership_user_id_membership_type"))
+                .when(membershipRepository)
+                .saveAndFlush(any(Membership.class));
 
         // when
         final MembershipException result = assertThrows(MembershipException.class, () -> target.addMembership(userId, membershipType, point));
@@ -177,11 +286,26 @@ public class MembershipServiceTest {
         assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
     }
 
+    @Test
+    public void 멤버십등록실패_중복이아닌무결성위반은그대로전달() {
+        // given
+        final DataIntegrityViolationException exception = new DataIntegrityViolationException("NULL not allowed for column \"USER_ID\"");
+        doThrow(exception)
+                .when(membershipRepository)
+                .saveAndFlush(any(Membership.class));
+
+        // when
+        final DataIntegrityViolationException result = assertThrows(DataIntegrityViolationException.class,
+                () -> target.addMembership(userId, membershipType, point));
+
+        // then
+        assertThat(result).isSameAs(exception);
+    }
+
     @Test
     public void 멤버십등록성공() {
         // given
-        doReturn(null).when(membershipRepository).findByUserIdAndMembershipType(userId, membershipType);
-        doReturn(membership()).when(membershipRepository).save(any(Membership.class));
+        doReturn(membership()).when(membershipRepository).saveAndFlush(any(Membership.class));
 
         // when
         final MembershipAddResponse result = target.addMembership(userId, membershipType, point);
@@ -191,8 +315,87 @@ public class MembershipServiceTest {
         assertThat(result.getMembershipType()).isEqualTo(MembershipType.NAVER);
 
         // verify
-        verify(membershipRepository, times(1)).findByUserIdAndMembershipType(userId, membershipType);
-        verify(membershipRepository, times(1)).save(any(Membership.class));
+        verify(membershipRepository, never()).findByUserIdAndMembershipType(userId, membershipType);
+        verify(membershipRepository, times(1)).saveAndFlush(any(Membership.class));
+    }
+
+    @Test
+    public void 멤버십일괄등록성공_중복은제외() {
+        // given
+        final List<MembershipBulkAddItem> items = Arrays.asList(
+                bulkAddItem(userId, MembershipType.NAVER),
+                bulkAddItem(userId, MembershipType.KAKAO),
+                bulkAddItem(userId, MembershipType.KAKAO),
+                bulkAddItem("otherUserId", MembershipType.NAVER)
+        );
+        doReturn(-2L, -3L).when(idGenerator).nextId();
+        doReturn(Collections.singletonList(membership())).when(membershipRepository).findAllByUserIdIn(anyCollection());
+
+        // when
+        final List<MembershipAddResponse> result = target.addMemberships(items);
+
+        // then
+        assertThat(result).extracting(MembershipAddResponse::getId).containsExactly(null, -2L, null, -3L);
+
+        // verify
+        verify(membershipRepository, times(1)).insertAll(argThat(v -> v.size() == 2));
+        verify(membershipRepository, times(1)).findAllByUserIdIn(anyCollection());
+    }
+
+    @Test
+    public void 멤버십일괄등록실패_동시에등록된멤버십() {
+        // given
+        doReturn(-2L).when(idGenerator).nextId();
+        doReturn(Collections.emptyList()).when(membershipRepository).findAllByUserIdIn(anyCollection());
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_MEMBERSHIP_USER_ID_MEMBERSHIP_TYPE_INDEX_8\"")))
+                .when(membershipRepository)
+                .insertAll(anyList());
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class,
+                () -> target.addMemberships(Collections.singletonList(bulkAddItem(userId, MembershipType.NAVER))));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.DUPLICATED_MEMBERSHIP_REGISTER);
+    }
+
+    @Test
+    public void 멤버십일괄등록실패_중복이아닌무결성위반은그대로전달() {
+        // given
+        doReturn(-2L).when(idGenerator).nextId();
+        doReturn(Collections.emptyList()).when(membershipRepository).findAllByUserIdIn(anyCollection());
+        doThrow(new DataIntegrityViolationException("Data too long for column 'user_id'"))
+                .when(membershipRepository)
+                .insertAll(anyList());
+
+        // when
+        // then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> target.addMemberships(Collections.singletonList(bulkAddItem(userId, MembershipType.NAVER))));
+    }
+
+    @Test
+    public void 멤버십일괄등록성공_모두중복이면저장안함() {
+        // given
+        doReturn(Collections.singletonList(membership())).when(membershipRepository).findAllByUserIdIn(anyCollection());
+
+        // when
+        final List<MembershipAddResponse> result = target.addMemberships(Collections.singletonList(bulkAddItem(userId, MembershipType.NAVER)));
+
+        // then
+        assertThat(result).extracting(MembershipAddResponse::getId).containsExactly((Long) null);
+
+        // verify
+        verify(membershipRepository, never()).insertAll(anyList());
+    }
+
+    private MembershipBulkAddItem bulkAddItem(final String userId, final MembershipType membershipType) {
+        return MembershipBulkAddItem.builder()
+                .userId(userId)
+                .point(point)
+                .membershipType(membershipType)
+                .build();
     }
 
     private Membership membership() {
@@ -204,4 +407,13 @@ public class MembershipServiceTest {
                 .build();
     }
 
+    private MembershipDetailResponse detailResponse(final Long id) {
+        return MembershipDetailResponse.builder()
+                .id(id)
+                .membershipType(MembershipType.NAVER)
+                .point(point)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.mang.atdd.membership.app.outbox.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// sink 에 발행된 순번과 이벤트, 소비자는 마지막으로 받은 sequence 이후를 이어서 읽음
+@Getter
+@RequiredArgsConstructor
+public class PublishedEvent {
+
+    private final long sequence;
+    private final MembershipEventMessage event;
+
+}
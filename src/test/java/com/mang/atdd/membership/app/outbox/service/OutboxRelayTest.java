@@ -0,0 +1,92 @@
+package com.mang.atdd.membership.app.outbox.service;
+
+import com.mang.atdd.membership.app.enums.MembershipEventType;
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+import com.mang.atdd.membership.app.outbox.dto.PublishedEvent;
+import com.mang.atdd.membership.app.outbox.repository.OutboxEventRepository;
+import com.mang.atdd.membership.app.outbox.sink.InMemoryOutboxSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "membership.outbox.enabled=true",
+        "membership.outbox.sink=custom",
+        "membership.outbox.relay.interval-ms=600000",
+        "membership.outbox.relay.batch-size=2",
+})
+public class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private MembershipService membershipService;
+
+    @TestConfiguration
+    static class OutboxSinkConfig {
+
+        @Bean
+        public InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink();
+        }
+
+    }
+
+    @Test
+    public void 멤버십변경이벤트를순서대로발행() {
+        // given
+        final String userId = "outboxUserId";
+        final Long membershipId = membershipService.addMembership(userId, MembershipType.NAVER, 10000).getId();
+        membershipService.accumulateMembershipPoint(membershipId, userId, 10000);
+        membershipService.removeMembership(membershipId, userId);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        final List<MembershipEventMessage> events = inMemoryOutboxSink.readAfter(0L, Integer.MAX_VALUE).stream()
+                .map(PublishedEvent::getEvent)
+                .filter(v -> membershipId.equals(v.getMembershipId()))
+                .collect(Collectors.toList());
+        assertThat(events).extracting(MembershipEventMessage::getEventType).containsExactly(
+                MembershipEventType.MEMBERSHIP_ADDED,
+                MembershipEventType.POINT_ACCUMULATED,
+                MembershipEventType.MEMBERSHIP_REMOVED);
+        assertThat(events.get(0).getAmount()).isEqualTo(10000L);
+        assertThat(events.get(1).getAmount()).isEqualTo(100L);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    public void 마지막으로받은순번이후만조회() {
+        // given
+        final String userId = "outboxStreamUserId";
+        membershipService.addMembership(userId, MembershipType.NAVER, 10000);
+        outboxRelay.relay();
+        final List<PublishedEvent> before = inMemoryOutboxSink.readAfter(0L, Integer.MAX_VALUE);
+        final long lastSequence = before.get(before.size() - 1).getSequence();
+
+        // when
+        membershipService.addMembership(userId, MembershipType.KAKAO, 10000);
+        outboxRelay.relay();
+        final List<PublishedEvent> result = inMemoryOutboxSink.readAfter(lastSequence, Integer.MAX_VALUE);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getEvent().getMembershipType()).isEqualTo(MembershipType.KAKAO);
+    }
+
+}
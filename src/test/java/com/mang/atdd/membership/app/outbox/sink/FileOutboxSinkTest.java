@@ -0,0 +1,53 @@
+package com.mang.atdd.membership.app.outbox.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mang.atdd.membership.app.enums.MembershipEventType;
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    public void 이벤트를한줄씩이어서기록(@TempDir final Path tempDir) throws Exception {
+        // given
+        final Path path = tempDir.resolve("outbox/membership-events.ndjson");
+        final FileOutboxSink target = new FileOutboxSink(path.toString(), objectMapper);
+
+        // when
+        target.publish(Arrays.asList(event(1L), event(2L)));
+        target.publish(Collections.singletonList(event(3L)));
+
+        // then
+        final List<String> lines = Files.readAllLines(path);
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines.get(2), MembershipEventMessage.class).getId()).isEqualTo(3L);
+    }
+
+    private MembershipEventMessage event(final Long id) {
+        return MembershipEventMessage.builder()
+                .id(id)
+                .eventType(MembershipEventType.POINT_ACCUMULATED)
+                .membershipId(-1L)
+                .userId("userId")
+                .amount(100L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.mang.atdd.membership.app.outbox.sink;
+
+import com.mang.atdd.membership.app.outbox.dto.MembershipEventMessage;
+import com.mang.atdd.membership.app.outbox.dto.PublishedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 테스트용 sink, 발행된 이벤트를 발행 순번으로 보관하며 마지막으로 받은 순번 이후의 이벤트를 이어서 읽음
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final ConcurrentSkipListMap<Long, MembershipEventMessage> events = new ConcurrentSkipListMap<>();
+    private long lastSequence;
+
+    @Override
+    public synchronized void publish(final List<MembershipEventMessage> events) {
+        events.forEach(event -> this.events.put(++lastSequence, event));
+    }
+
+    public List<PublishedEvent> readAfter(final long afterSequence, final int limit) {
+        final List<PublishedEvent> result = new ArrayList<>();
+        for (final Map.Entry<Long, MembershipEventMessage> entry : events.tailMap(afterSequence, false).entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new PublishedEvent(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
+}
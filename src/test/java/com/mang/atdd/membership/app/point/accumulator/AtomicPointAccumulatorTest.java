@@ -0,0 +1,74 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AtomicPointAccumulatorTest {
+
+    @InjectMocks
+    private AtomicPointAccumulator target;
+    @Mock
+    private MembershipRepository membershipRepository;
+    @Mock
+    private OutboxService outboxService;
+
+    private final String userId = "userId";
+    private final Long membershipId = -1L;
+
+    @Test
+    public void 포인트적립실패_존재하지않음() {
+        // given
+        doReturn(0).when(membershipRepository).accumulatePoint(eq(membershipId), eq(userId), eq(100), any(LocalDateTime.class));
+        doReturn(false).when(membershipRepository).existsByIdInAnyShard(membershipId);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulate(membershipId, userId, 100));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+    }
+
+    @Test
+    public void 포인트적립실패_본인이아님() {
+        // given
+        doReturn(0).when(membershipRepository).accumulatePoint(eq(membershipId), eq("notowner"), eq(100), any(LocalDateTime.class));
+        doReturn(true).when(membershipRepository).existsByIdInAnyShard(membershipId);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulate(membershipId, "notowner", 100));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.NOT_MEMBERSHIP_OWNER);
+    }
+
+    @Test
+    public void 포인트적립성공() {
+        // given
+        doReturn(1).when(membershipRepository).accumulatePoint(eq(membershipId), eq(userId), eq(100), any(LocalDateTime.class));
+
+        // when
+        target.accumulate(membershipId, userId, 100);
+
+        // then
+
+        // verify
+        verify(membershipRepository, never()).existsByIdInAnyShard(membershipId);
+        verify(outboxService, times(1)).pointAccumulated(membershipId, userId, 100);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BufferedPointAccumulatorTest {
+
+    private BufferedPointAccumulator target;
+    @Mock
+    private MembershipRepository membershipRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxService outboxService;
+
+    private final String userId = "userId";
+    private final Long membershipId = -1L;
+
+    @BeforeEach
+    public void init() {
+        target = new BufferedPointAccumulator(membershipRepository, transactionManager, outboxService, 1000);
+    }
+
+    @Test
+    public void 포인트적립성공_반영전조회에포함() {
+        // given
+
+        // when
+        target.accumulate(membershipId, userId, 100);
+        target.accumulate(membershipId, userId, 200);
+
+        // then
+        assertThat(target.applyPending(membershipId, 10000)).isEqualTo(10300);
+
+        // verify
+        verify(membershipRepository, never()).accumulatePoints(anyMap());
+        verify(membershipRepository, never()).existsByIdAndUserId(any(), any());
+    }
+
+    @Test
+    public void 사용자의미반영적립분을멤버십별로조회() {
+        // given
+        target.accumulate(-1L, userId, 100);
+        target.accumulate(-2L, userId, 200);
+        target.accumulate(-3L, "otherUserId", 300);
+
+        // when
+        final Map<Long, Long> result = target.getPendingByUserId(userId);
+
+        // then
+        assertThat(result).containsEntry(-1L, 100L).containsEntry(-2L, 200L).hasSize(2);
+        assertThat(target.getPendingByUserId("noPendingUserId")).isEmpty();
+    }
+
+    @Test
+    public void 포인트일괄반영성공() {
+        // given
+        target.accumulate(membershipId, userId, 100);
+        target.accumulate(membershipId, userId, 200);
+
+        // when
+        target.flush();
+
+        // then
+        assertThat(target.applyPending(membershipId, 10300)).isEqualTo(10300);
+
+        // verify
+        verify(membershipRepository, times(1)).accumulatePoints(Collections.singletonMap(membershipId, 300L));
+        verify(outboxService, times(1)).pointsAccumulated(Collections.singletonMap(membershipId, 300L));
+    }
+
+    @Test
+    public void 미반영적립분_멤버십과사용자단위로확인() {
+        // given
+        target.accumulate(membershipId, userId, 100);
+
+        // when
+        final boolean pending = target.hasPending(membershipId) && target.hasPendingByUserId(userId);
+        final boolean otherPending = target.hasPending(-2L) || target.hasPendingByUserId("otherUserId");
+        target.flush();
+
+        // then
+        assertThat(pending).isTrue();
+        assertThat(otherPending).isFalse();
+        assertThat(target.hasPending(membershipId)).isFalse();
+        assertThat(target.hasPendingByUserId(userId)).isFalse();
+    }
+
+    @Test
+    public void 포인트일괄반영실패_대기분유지() {
+        // given
+        doThrow(new IllegalStateException()).when(membershipRepository).accumulatePoints(anyMap());
+        target.accumulate(membershipId, userId, 100);
+
+        // when
+        target.flush();
+
+        // then
+        assertThat(target.applyPending(membershipId, 10000)).isEqualTo(10100);
+    }
+
+    @Test
+    public void 임계치도달시즉시반영() {
+        // given
+        target = new BufferedPointAccumulator(membershipRepository, transactionManager, outboxService, 2);
+
+        // when
+        target.accumulate(-1L, userId, 100);
+        target.accumulate(-2L, userId, 200);
+
+        // then
+        final Map<Long, Long> expected = new HashMap<>();
+        expected.put(-1L, 100L);
+        expected.put(-2L, 200L);
+
+        // verify
+        verify(membershipRepository, times(1)).accumulatePoints(expected);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.app.point.dto.PendingPointAmount;
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import com.mang.atdd.membership.app.point.repository.PointLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LedgerPointAccumulatorTest {
+
+    @InjectMocks
+    private LedgerPointAccumulator target;
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+    @Mock
+    private OutboxService outboxService;
+
+    private final String userId = "userId";
+    private final Long membershipId = -1L;
+
+    @Test
+    public void 포인트적립성공_원장에추가() {
+        // given
+        final ArgumentCaptor<PointLedger> captor = ArgumentCaptor.forClass(PointLedger.class);
+
+        // when
+        target.accumulate(membershipId, userId, 100);
+
+        // then
+        verify(pointLedgerRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getMembershipId()).isEqualTo(membershipId);
+        assertThat(captor.getValue().getAmount()).isEqualTo(100);
+
+        // verify
+        verify(outboxService, times(1)).pointAccumulated(membershipId, userId, 100);
+    }
+
+    @Test
+    public void 미반영원장합계를조회결과에포함() {
+        // given
+        doReturn(300L).when(pointLedgerRepository).sumPendingAmount(membershipId);
+
+        // when
+        final Integer result = target.applyPending(membershipId, 10000);
+
+        // then
+        assertThat(result).isEqualTo(10300);
+    }
+
+    @Test
+    public void 미반영원장없으면조회결과그대로() {
+        // given
+        doReturn(0L).when(pointLedgerRepository).sumPendingAmount(membershipId);
+
+        // when
+        final Integer result = target.applyPending(membershipId, 10000);
+
+        // then
+        assertThat(result).isEqualTo(10000);
+    }
+
+    @Test
+    public void 사용자의미반영원장합계를한번에조회() {
+        // given
+        doReturn(Arrays.asList(
+                new PendingPointAmount(1L, 100L),
+                new PendingPointAmount(2L, 300L)
+        )).when(pointLedgerRepository).sumPendingAmountsByUserId(userId);
+
+        // when
+        final Map<Long, Long> result = target.getPendingByUserId(userId);
+
+        // then
+        assertThat(result).containsEntry(1L, 100L).containsEntry(2L, 300L).hasSize(2);
+    }
+
+}
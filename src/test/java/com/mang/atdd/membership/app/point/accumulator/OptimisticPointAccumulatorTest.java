@@ -0,0 +1,100 @@
+package com.mang.atdd.membership.app.point.accumulator;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.entity.Membership;
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.outbox.service.OutboxService;
+import com.mang.atdd.membership.exception.MembershipErrorResult;
+import com.mang.atdd.membership.exception.MembershipException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OptimisticPointAccumulatorTest {
+
+    private OptimisticPointAccumulator target;
+    @Mock
+    private MembershipRepository membershipRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private OutboxService outboxService;
+
+    private final String userId = "userId";
+    private final Long membershipId = -1L;
+
+    @BeforeEach
+    public void init() {
+        target = new OptimisticPointAccumulator(membershipRepository, transactionManager, outboxService, 3);
+    }
+
+    @Test
+    public void 포인트적립실패_존재하지않음() {
+        // given
+        doReturn(Optional.empty()).when(membershipRepository).findByIdAndUserId(membershipId, userId);
+        doReturn(false).when(membershipRepository).existsByIdInAnyShard(membershipId);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulate(membershipId, userId, 100));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.MEMBERSHIP_NOT_FOUND);
+    }
+
+    @Test
+    public void 포인트적립실패_재시도횟수초과() {
+        // given
+        doThrow(new ObjectOptimisticLockingFailureException(Membership.class, membershipId))
+                .when(membershipRepository)
+                .findByIdAndUserId(membershipId, userId);
+
+        // when
+        final MembershipException result = assertThrows(MembershipException.class, () -> target.accumulate(membershipId, userId, 100));
+
+        // then
+        assertThat(result.getErrorResult()).isEqualTo(MembershipErrorResult.POINT_ACCUMULATE_CONFLICT);
+
+        // verify
+        verify(membershipRepository, times(3)).findByIdAndUserId(membershipId, userId);
+    }
+
+    @Test
+    public void 포인트적립성공_충돌후재시도() {
+        // given
+        final Membership membership = membership();
+        doThrow(new ObjectOptimisticLockingFailureException(Membership.class, membershipId))
+                .doReturn(Optional.of(membership))
+                .when(membershipRepository)
+                .findByIdAndUserId(membershipId, userId);
+
+        // when
+        target.accumulate(membershipId, userId, 100);
+
+        // then
+        assertThat(membership.getPoint()).isEqualTo(10100);
+
+        // verify
+        verify(membershipRepository, times(2)).findByIdAndUserId(membershipId, userId);
+    }
+
+    private Membership membership() {
+        return Membership.builder()
+                .id(membershipId)
+                .userId(userId)
+                .point(10000)
+                .membershipType(MembershipType.NAVER)
+                .build();
+    }
+
+}
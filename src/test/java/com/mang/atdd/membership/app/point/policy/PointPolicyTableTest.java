@@ -0,0 +1,122 @@
+package com.mang.atdd.membership.app.point.policy;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointPolicyTableTest {
+
+    private final ZoneId zoneId = ZoneOffset.UTC;
+    private final LocalDateTime startAt = LocalDateTime.of(2021, 8, 1, 0, 0);
+    private final LocalDateTime endAt = LocalDateTime.of(2021, 9, 1, 0, 0);
+
+    @Test
+    public void 규칙이없으면기본적립률() {
+        // given
+        final PointPolicyTable table = PointPolicyTable.compile(Collections.emptyList(), 100, zoneId);
+
+        // when
+        final int result = table.rateBasisPoints(MembershipType.NAVER, millis(startAt));
+
+        // then
+        assertThat(result).isEqualTo(100);
+        assertThat(table.segmentCount(MembershipType.NAVER)).isEqualTo(1);
+    }
+
+    @Test
+    public void 기간내에만캠페인적립률적용() {
+        // given
+        final PointPolicyTable table = PointPolicyTable.compile(Collections.singletonList(
+                rule(MembershipType.NAVER, 500, 1)
+        ), 100, zoneId);
+
+        // when
+        final int before = table.rateBasisPoints(MembershipType.NAVER, millis(startAt) - 1);
+        final int during = table.rateBasisPoints(MembershipType.NAVER, millis(startAt));
+        final int after = table.rateBasisPoints(MembershipType.NAVER, millis(endAt));
+
+        // then
+        assertThat(before).isEqualTo(100);
+        assertThat(during).isEqualTo(500);
+        assertThat(after).isEqualTo(100);
+    }
+
+    @Test
+    public void 다른멤버십타입에는적용안됨() {
+        // given
+        final PointPolicyTable table = PointPolicyTable.compile(Collections.singletonList(
+                rule(MembershipType.NAVER, 500, 1)
+        ), 100, zoneId);
+
+        // when
+        final int kakao = table.rateBasisPoints(MembershipType.KAKAO, millis(startAt));
+        final int common = table.rateBasisPoints(null, millis(startAt));
+
+        // then
+        assertThat(kakao).isEqualTo(100);
+        assertThat(common).isEqualTo(100);
+    }
+
+    @Test
+    public void 겹치는규칙은우선순위가높은규칙적용() {
+        // given
+        final PointPolicyTable table = PointPolicyTable.compile(Arrays.asList(
+                rule(null, 200, 1),
+                rule(MembershipType.NAVER, 300, 2)
+        ), 100, zoneId);
+
+        // when
+        final int naver = table.rateBasisPoints(MembershipType.NAVER, millis(startAt));
+        final int line = table.rateBasisPoints(MembershipType.LINE, millis(startAt));
+
+        // then
+        assertThat(naver).isEqualTo(300);
+        assertThat(line).isEqualTo(200);
+    }
+
+    @Test
+    public void 활성규칙수가늘어도구간수는일정함() {
+        // given
+        final PointPolicyTable singleRuleTable = PointPolicyTable.compile(Collections.singletonList(
+                rule(MembershipType.NAVER, 1000, 1000)
+        ), 100, zoneId);
+
+        final List<PointPolicyRule> rules = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            rules.add(rule(MembershipType.NAVER, i, i));
+        }
+        final PointPolicyTable manyRuleTable = PointPolicyTable.compile(rules, 100, zoneId);
+
+        // when
+        final int result = manyRuleTable.rateBasisPoints(MembershipType.NAVER, millis(startAt));
+
+        // then
+        assertThat(result).isEqualTo(1000);
+        assertThat(manyRuleTable.segmentCount(MembershipType.NAVER)).isEqualTo(singleRuleTable.segmentCount(MembershipType.NAVER));
+    }
+
+    private PointPolicyRule rule(final MembershipType membershipType, final int rateBasisPoints, final int priority) {
+        return PointPolicyRule.builder()
+                .name("campaign" + priority)
+                .membershipType(membershipType)
+                .startAt(startAt)
+                .endAt(endAt)
+                .rateBasisPoints(rateBasisPoints)
+                .priority(priority)
+                .build();
+    }
+
+    private long millis(final LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.mang.atdd.membership.app.point.repository;
+
+import com.mang.atdd.membership.app.point.dto.PendingPointAmount;
+import com.mang.atdd.membership.app.point.entity.PointLedger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+public class PointLedgerRepositoryTest {
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Test
+    public void 반영되지않은원장만조회() {
+        // given
+        final PointLedger materializedLedger = pointLedgerRepository.save(ledger(1L, 100));
+        final PointLedger pendingLedger = pointLedgerRepository.save(ledger(1L, 200));
+        pointLedgerRepository.markMaterialized(Collections.singletonList(materializedLedger));
+
+        // when
+        final List<PointLedger> result = pointLedgerRepository.findUnmaterialized(100);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(pendingLedger.getId());
+        assertThat(result.get(0).getAmount()).isEqualTo(200);
+    }
+
+    @Test
+    public void 반영되지않은원장합계() {
+        // given
+        final PointLedger materializedLedger = pointLedgerRepository.save(ledger(1L, 100));
+        pointLedgerRepository.save(ledger(1L, 200));
+        pointLedgerRepository.save(ledger(1L, 300));
+        pointLedgerRepository.save(ledger(2L, 400));
+        pointLedgerRepository.markMaterialized(Collections.singletonList(materializedLedger));
+
+        // when
+        final long result = pointLedgerRepository.sumPendingAmount(1L);
+
+        // then
+        assertThat(result).isEqualTo(500L);
+        assertThat(pointLedgerRepository.sumPendingAmount(3L)).isZero();
+    }
+
+    @Test
+    public void 사용자의반영되지않은원장합계를멤버십별로조회() {
+        // given
+        final PointLedger materializedLedger = pointLedgerRepository.save(ledger(1L, 100));
+        pointLedgerRepository.save(ledger(1L, 200));
+        pointLedgerRepository.save(ledger(2L, 300));
+        pointLedgerRepository.save(PointLedger.builder()
+                .membershipId(3L)
+                .userId("otherUserId")
+                .amount(400)
+                .build());
+        pointLedgerRepository.markMaterialized(Collections.singletonList(materializedLedger));
+
+        // when
+        final List<PendingPointAmount> result = pointLedgerRepository.sumPendingAmountsByUserId("userId");
+
+        // then
+        assertThat(result).extracting(PendingPointAmount::getMembershipId, PendingPointAmount::getAmount)
+                .containsExactlyInAnyOrder(tuple(1L, 200L), tuple(2L, 300L));
+    }
+
+    @Test
+    public void 원장동시반영실패() {
+        // given
+        final PointLedger ledger = pointLedgerRepository.save(ledger(1L, 100));
+        pointLedgerRepository.markMaterialized(Collections.singletonList(ledger));
+
+        // when
+        final OptimisticLockingFailureException result = assertThrows(OptimisticLockingFailureException.class,
+                () -> pointLedgerRepository.markMaterialized(Collections.singletonList(ledger)));
+
+        // then
+        assertThat(result).isNotNull();
+    }
+
+    private PointLedger ledger(final Long membershipId, final int amount) {
+        return PointLedger.builder()
+                .membershipId(membershipId)
+                .userId("userId")
+                .amount(amount)
+                .build();
+    }
+
+}
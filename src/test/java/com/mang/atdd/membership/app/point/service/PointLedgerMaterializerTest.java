@@ -0,0 +1,86 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.membership.dto.MembershipAddResponse;
+import com.mang.atdd.membership.app.membership.dto.MembershipDetailResponse;
+import com.mang.atdd.membership.app.membership.repository.MembershipRepository;
+import com.mang.atdd.membership.app.membership.service.MembershipService;
+import com.mang.atdd.membership.app.point.repository.PointLedgerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "membership.point.accumulate-mode=ledger",
+        "membership.point.ledger.batch-size=1"
+})
+public class PointLedgerMaterializerTest {
+
+    @Autowired
+    private PointLedgerMaterializer target;
+    @Autowired
+    private MembershipService membershipService;
+    @Autowired
+    private MembershipRepository membershipRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void 원장반영후잔액갱신_중복반영없음() {
+        // given
+        final String userId = "ledgerUserId";
+        final MembershipAddResponse naverMembership = membershipService.addMembership(userId, MembershipType.NAVER, 0);
+        final MembershipAddResponse kakaoMembership = membershipService.addMembership(userId, MembershipType.KAKAO, 0);
+        membershipService.accumulateMembershipPoint(naverMembership.getId(), userId, 10000);
+        membershipService.accumulateMembershipPoint(naverMembership.getId(), userId, 20000);
+        membershipService.accumulateMembershipPoint(kakaoMembership.getId(), userId, 10000);
+
+        // when
+        target.materialize();
+        target.materialize();
+
+        // then
+        assertThat(membershipRepository.findById(naverMembership.getId()).get().getPoint()).isEqualTo(300);
+        assertThat(membershipRepository.findById(kakaoMembership.getId()).get().getPoint()).isEqualTo(100);
+        assertThat(pointLedgerRepository.findAllByMembershipIdOrderByIdAsc(naverMembership.getId())).hasSize(2);
+    }
+
+    @Test
+    public void 늦게커밋된원장도반영() {
+        // given
+        final String userId = "lateLedgerUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 0);
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+        target.materialize();
+
+        // 이미 반영된 원장보다 작은 id 로 늦게 커밋된 원장
+        jdbcTemplate.update("INSERT INTO point_ledger (id, membership_id, user_id, amount, materialized, created_at) "
+                + "VALUES (-1, ?, ?, 50, FALSE, CURRENT_TIMESTAMP)", membership.getId(), userId);
+
+        // when
+        target.materialize();
+
+        // then
+        assertThat(membershipRepository.findById(membership.getId()).get().getPoint()).isEqualTo(150);
+    }
+
+    @Test
+    public void 반영전조회에미반영원장포함() {
+        // given
+        final String userId = "pendingLedgerUserId";
+        final MembershipAddResponse membership = membershipService.addMembership(userId, MembershipType.NAVER, 0);
+        membershipService.accumulateMembershipPoint(membership.getId(), userId, 10000);
+
+        // when
+        final MembershipDetailResponse result = membershipService.getMembership(membership.getId(), userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(100);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PointPolicyReloaderTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2021, 8, 15, 12, 0);
+    private final PolicyPointService policyPointService = new PolicyPointService(
+            Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), 100, Collections.emptyList());
+
+    @TempDir
+    Path tempDir;
+
+    private LocalValidatorFactoryBean validator;
+    private Path rulesFile;
+    private PointPolicyReloader target;
+
+    @BeforeEach
+    public void init() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        rulesFile = tempDir.resolve("point-policy.properties");
+        target = new PointPolicyReloader(policyPointService, new FileSystemResource(rulesFile), validator);
+    }
+
+    @AfterEach
+    public void destroy() {
+        validator.close();
+    }
+
+    @Test
+    public void 규칙파일을다시읽어적용() throws Exception {
+        // given
+        writeRules("2021-08-01T00:00:00", "2021-09-01T00:00:00", "rate-basis-points=500");
+
+        // when
+        final int result = target.reload();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThat(policyPointService.calculateAmount(MembershipType.NAVER, 10000)).isEqualTo(500);
+        assertThat(policyPointService.calculateAmount(MembershipType.KAKAO, 10000)).isEqualTo(100);
+    }
+
+    @Test
+    public void 적립률이없는규칙은적용안됨() throws Exception {
+        // given
+        writeRules("2021-08-01T00:00:00", "2021-09-01T00:00:00", "priority=2");
+
+        // when
+        assertThrows(BindException.class, () -> target.reload());
+
+        // then
+        assertThat(policyPointService.calculateAmount(MembershipType.NAVER, 10000)).isEqualTo(100);
+    }
+
+    @Test
+    public void 시작시각이종료시각이후인규칙은적용안됨() throws Exception {
+        // given
+        writeRules("2021-09-01T00:00:00", "2021-08-01T00:00:00", "rate-basis-points=500");
+
+        // when
+        assertThrows(BindException.class, () -> target.reload());
+
+        // then
+        assertThat(policyPointService.calculateAmount(MembershipType.NAVER, 10000)).isEqualTo(100);
+    }
+
+    @Test
+    public void 주기적으로다시읽을때검증에실패하면이전규칙유지() throws Exception {
+        // given
+        writeRules("2021-08-01T00:00:00", "2021-09-01T00:00:00", "rate-basis-points=500");
+        target.reloadIfModified();
+        writeRules("2021-08-01T00:00:00", "2021-09-01T00:00:00", "rate-basis-points=-1");
+        rulesFile.toFile().setLastModified(rulesFile.toFile().lastModified() + 1000);
+
+        // when
+        target.reloadIfModified();
+
+        // then
+        assertThat(policyPointService.calculateAmount(MembershipType.NAVER, 10000)).isEqualTo(500);
+    }
+
+    private void writeRules(final String startAt, final String endAt, final String extra) throws Exception {
+        Files.write(rulesFile, Arrays.asList(
+                "membership.point.policy.rules[0].name=summer",
+                "membership.point.policy.rules[0].membership-type=NAVER",
+                "membership.point.policy.rules[0].start-at=" + startAt,
+                "membership.point.policy.rules[0].end-at=" + endAt,
+                "membership.point.policy.rules[0]." + extra
+        ), StandardCharsets.UTF_8);
+    }
+
+}
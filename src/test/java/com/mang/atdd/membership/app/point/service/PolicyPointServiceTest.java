@@ -0,0 +1,102 @@
+package com.mang.atdd.membership.app.point.service;
+
+import com.mang.atdd.membership.app.enums.MembershipType;
+import com.mang.atdd.membership.app.point.policy.PointPolicyProperties;
+import com.mang.atdd.membership.app.point.policy.PointPolicyRule;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PolicyPointServiceTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2021, 8, 15, 12, 0);
+    private final PolicyPointService target = new PolicyPointService(
+            Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), 100, Collections.emptyList());
+
+    @Test
+    public void _10000원의기본적립은100원() {
+        // given
+        final int price = 10000;
+
+        // when
+        final int result = target.calculateAmount(MembershipType.NAVER, price);
+
+        // then
+        assertThat(result).isEqualTo(100);
+    }
+
+    @Test
+    public void 캠페인기간의적립은캠페인적립률적용() {
+        // given
+        target.updateRules(Collections.singletonList(PointPolicyRule.builder()
+                .name("summer")
+                .membershipType(MembershipType.NAVER)
+                .startAt(now.minusDays(1))
+                .endAt(now.plusDays(1))
+                .rateBasisPoints(500)
+                .priority(1)
+                .build()));
+
+        // when
+        final int naver = target.calculateAmount(MembershipType.NAVER, 10000);
+        final int kakao = target.calculateAmount(MembershipType.KAKAO, 10000);
+
+        // then
+        assertThat(naver).isEqualTo(500);
+        assertThat(kakao).isEqualTo(100);
+    }
+
+    @Test
+    public void 설정한캠페인규칙적용() {
+        // given
+        final Map<String, String> source = new HashMap<>();
+        source.put("membership.point.policy.default-rate-basis-points", "200");
+        source.put("membership.point.policy.rules[0].name", "summer");
+        source.put("membership.point.policy.rules[0].membership-type", "KAKAO");
+        source.put("membership.point.policy.rules[0].start-at", "2021-08-01T00:00:00");
+        source.put("membership.point.policy.rules[0].end-at", "2021-09-01T00:00:00");
+        source.put("membership.point.policy.rules[0].rate-basis-points", "1000");
+        source.put("membership.point.policy.rules[0].priority", "1");
+        final PointPolicyProperties properties = new Binder(new MapConfigurationPropertySource(source))
+                .bind("membership.point.policy", PointPolicyProperties.class)
+                .get();
+        final PolicyPointService policyPointService = new PolicyPointService(
+                Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), properties.getDefaultRateBasisPoints(), properties.toRules());
+
+        // when
+        final int kakao = policyPointService.calculateAmount(MembershipType.KAKAO, 10000);
+        final int naver = policyPointService.calculateAmount(MembershipType.NAVER, 10000);
+
+        // then
+        assertThat(kakao).isEqualTo(1000);
+        assertThat(naver).isEqualTo(200);
+    }
+
+    @Test
+    public void 종료된캠페인은적용안됨() {
+        // given
+        target.updateRules(Collections.singletonList(PointPolicyRule.builder()
+                .name("spring")
+                .startAt(now.minusDays(10))
+                .endAt(now.minusDays(1))
+                .rateBasisPoints(500)
+                .priority(1)
+                .build()));
+
+        // when
+        final int result = target.calculateAmount(MembershipType.NAVER, 10000);
+
+        // then
+        assertThat(result).isEqualTo(100);
+    }
+
+}